@@ -0,0 +1,98 @@
+package baccarat.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import baccarat.BaccaratDealer;
+import baccarat.Card;
+import baccarat.Hand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the dealer's shoe operations for 1, 6 and 8 decks.
+ * Dealing benchmarks put the dealt cards back without shuffling when the shoe runs low, so they measure dealing
+ * rather than shuffling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DealerBenchmark {
+    @Param({"1", "6", "8"})
+    public int decks;
+
+    private BaccaratDealer dealer;
+    private final Hand hand = new Hand();
+
+    @Setup
+    public void setup() {
+        dealer = BaccaratDealer.forSimulation(decks, 1);
+    }
+
+    @Benchmark
+    public int generateDeck() {
+        dealer.generateDeck(decks);
+        return dealer.getDeckSize();
+    }
+
+    @Benchmark
+    public int shuffleDeck() {
+        dealer.shuffleDeck();
+        return dealer.getDeckSize();
+    }
+
+    @Benchmark
+    public ArrayList<Card> dealHandList() {
+        if (dealer.getDeckSize() < 2) {
+            dealer.reset();
+        }
+        return dealer.dealHand();
+    }
+
+    @Benchmark
+    public int dealHand() {
+        if (dealer.getDeckSize() < 2) {
+            dealer.reset();
+        }
+        dealer.dealHand(hand);
+        return hand.total();
+    }
+
+    @Benchmark
+    public Card drawOne() {
+        if (dealer.getDeckSize() == 0) {
+            dealer.reset();
+        }
+        return dealer.drawOne();
+    }
+
+    @Benchmark
+    public int drawCode() {
+        if (dealer.getDeckSize() == 0) {
+            dealer.reset();
+        }
+        return dealer.drawCode();
+    }
+
+    @Benchmark
+    public int burnCards() {
+        if (dealer.getDeckSize() < 11) {
+            dealer.reset();
+        }
+        dealer.burnCards();
+        return dealer.getDeckSize();
+    }
+}
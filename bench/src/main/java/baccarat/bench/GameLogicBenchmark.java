@@ -0,0 +1,108 @@
+package baccarat.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import baccarat.BaccaratDealer;
+import baccarat.BaccaratGameLogic;
+import baccarat.Card;
+import baccarat.Hand;
+import baccarat.Outcome;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the game logic on hands dealt from 1, 6 and 8 deck shoes, in both the list and Hand forms.
+ * Each call takes the next of a fixed set of hands dealt up front, so the branches see real card sequences
+ * instead of one hand the predictor learns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GameLogicBenchmark {
+    private static final int SAMPLE_HANDS = 1024; // A power of two, so the next hand is picked with a mask
+
+    @Param({"1", "6", "8"})
+    public int decks;
+
+    private final BaccaratGameLogic logic = new BaccaratGameLogic();
+    private final ArrayList<ArrayList<Card>> playerLists = new ArrayList<>();
+    private final ArrayList<ArrayList<Card>> bankerLists = new ArrayList<>();
+    private final Hand[] playerHands = new Hand[SAMPLE_HANDS];
+    private final Hand[] bankerHands = new Hand[SAMPLE_HANDS];
+    private final Card[] thirdCards = new Card[SAMPLE_HANDS];
+    private final int[] thirdCodes = new int[SAMPLE_HANDS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        BaccaratDealer sampler = BaccaratDealer.forSimulation(decks, 3);
+        playerLists.clear();
+        bankerLists.clear();
+        for (int i = 0; i < SAMPLE_HANDS; i++) {
+            if (sampler.getDeckSize() < 6) {
+                sampler.reshuffle();
+            }
+            playerHands[i] = new Hand();
+            bankerHands[i] = new Hand();
+            sampler.dealHand(playerHands[i]);
+            sampler.dealHand(bankerHands[i]);
+            playerLists.add(playerHands[i].toCards());
+            bankerLists.add(bankerHands[i].toCards());
+            thirdCodes[i] = i % 3 == 0 ? -1 : sampler.drawCode(); // Some rounds without a player third card
+            thirdCards[i] = thirdCodes[i] < 0 ? null : Card.fromCode(thirdCodes[i]);
+        }
+    }
+
+    // Index of the hand for the next call
+    private int nextHand() {
+        return next++ & (SAMPLE_HANDS - 1);
+    }
+
+    @Benchmark
+    public int handTotalList() {
+        return logic.handTotal(playerLists.get(nextHand()));
+    }
+
+    @Benchmark
+    public int handTotal() {
+        return logic.handTotal(playerHands[nextHand()]);
+    }
+
+    @Benchmark
+    public Outcome whoWonList() {
+        int i = nextHand();
+        return logic.whoWon(playerLists.get(i), bankerLists.get(i));
+    }
+
+    @Benchmark
+    public Outcome whoWon() {
+        int i = nextHand();
+        return logic.whoWon(playerHands[i], bankerHands[i]);
+    }
+
+    @Benchmark
+    public boolean evaluateBankerDrawList() {
+        int i = nextHand();
+        return logic.evaluateBankerDraw(bankerLists.get(i), thirdCards[i]);
+    }
+
+    @Benchmark
+    public boolean evaluateBankerDraw() {
+        int i = nextHand();
+        return logic.evaluateBankerDraw(bankerHands[i], thirdCodes[i]);
+    }
+}
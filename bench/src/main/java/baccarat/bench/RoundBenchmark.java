@@ -0,0 +1,69 @@
+package baccarat.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import baccarat.BaccaratDealer;
+import baccarat.BaccaratEngine;
+import baccarat.BetBook;
+import baccarat.RoundResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of whole rounds end to end for 1, 6 and 8 decks, shoe changes and burns included, and of settling a
+ * full bet book on a round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RoundBenchmark {
+    private static final int SETTLED_BETS = 100_000;
+
+    @Param({"1", "6", "8"})
+    public int decks;
+
+    private BaccaratEngine engine;
+    private final BetBook book = new BetBook(SETTLED_BETS);
+    private int outcome; // A round the bet book is settled on
+
+    @Setup
+    public void setup() {
+        engine = new BaccaratEngine(BaccaratDealer.forSimulation(decks, 2), decks);
+        engine.playHands();
+        outcome = engine.getOutcome();
+    }
+
+    @Benchmark
+    public RoundResult playRound() {
+        return engine.playRound();
+    }
+
+    @Benchmark
+    public int playHands() {
+        engine.playHands();
+        return engine.getBankerHand().total();
+    }
+
+    @Benchmark
+    public long settleBetBook() {
+        book.clear();
+        for (int bet = 0; bet < SETTLED_BETS; bet++) {
+            book.add(bet, bet % 3, 1_000);
+        }
+        book.settleRound(outcome);
+        return book.getPaid(BetBook.BANKER);
+    }
+}
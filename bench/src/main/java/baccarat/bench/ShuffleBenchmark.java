@@ -0,0 +1,71 @@
+package baccarat.bench;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import baccarat.FisherYatesShuffle;
+import baccarat.RiffleShuffle;
+import baccarat.Shoe;
+import baccarat.ShuffleStrategy;
+import baccarat.SplitMix64Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to reshuffle a whole shoe for each combination of random source and shuffle strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ShuffleBenchmark {
+    @Param({"8"})
+    public int decks;
+
+    @Param({"SplitMix64Random", "SplittableRandom", "Random", "SecureRandom"})
+    public String random;
+
+    @Param({"Fisher-Yates", "Riffle x7", "Casino"})
+    public String strategy;
+
+    private Shoe shoe;
+    private RandomGenerator source;
+    private ShuffleStrategy shuffle;
+
+    @Setup
+    public void setup() {
+        shoe = new Shoe(decks);
+        switch (random) {
+            case "SplitMix64Random": source = new SplitMix64Random(1); break;
+            case "SplittableRandom": source = new SplittableRandom(1); break;
+            case "Random": source = new Random(1); break;
+            default: source = new SecureRandom();
+        }
+        switch (strategy) {
+            case "Fisher-Yates": shuffle = FisherYatesShuffle.INSTANCE; break;
+            case "Riffle x7": shuffle = new RiffleShuffle(7); break;
+            default: shuffle = ShuffleStrategy.casino();
+        }
+    }
+
+    @Benchmark
+    public int reshuffle() {
+        shoe.reshuffle(shuffle, source);
+        return shoe.peek();
+    }
+}
@@ -0,0 +1,306 @@
+package baccarat;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+// Class representing a Baccarat card dealer
+public class BaccaratDealer {
+    // Snapshot layout: magic, flags, shoe number, round number, cursor, shoe size, random state, shuffle count,
+    // then the cards
+    static final int SNAPSHOT_MAGIC = 0x42445332; // "BDS2"
+    static final int SNAPSHOT_ROUND = 16; // Offset of the round number, patched by round updates
+    static final int SNAPSHOT_CURSOR = 20; // Offset of the cursor, patched by round updates
+    static final int SNAPSHOT_HEADER = 48;
+    private static final int HAS_RANDOM_STATE = 1; // Flag set when the random state was saved
+    private static final int PREPARES_SHOES = 2; // Flag set when the next shoe was being prepared from the saved state
+
+    private Shoe shoe; // Shoe of encoded cards, dealt from a cursor
+    private final RandomGenerator random; // Random source for shuffling the deck
+    private final ShuffleStrategy shuffleStrategy; // Algorithm used to shuffle the deck
+    private long shoeNumber; // Shoes shuffled by this dealer so far, the current one included
+    private int roundNumber; // Rounds started from the current shoe
+    private long shuffleCount; // Shuffles so far, so a checkpoint can tell when the order of the cards changed
+    private Executor shoeExecutor; // Shuffles the next shoe off the dealing thread, or null to shuffle when needed
+    private CompletableFuture<Shoe> preparedShoe; // The next shoe, shuffled or being shuffled by the executor
+    private long preparedRandomState; // State of a SplitMix64Random before the prepared shoe's shuffle
+
+    // Constructor to initialize the dealer with a specified number of decks
+    public BaccaratDealer(int numDecks) {
+        this(numDecks, new Random());
+    }
+
+    // Constructor that shuffles with the given random source, e.g. a seeded SplittableRandom for reproducible runs
+    public BaccaratDealer(int numDecks, RandomGenerator random) {
+        this(numDecks, random, FisherYatesShuffle.INSTANCE);
+    }
+
+    // Constructor that shuffles with the given random source and shuffle algorithm
+    public BaccaratDealer(int numDecks, RandomGenerator random, ShuffleStrategy shuffleStrategy) {
+        this.random = random;
+        this.shuffleStrategy = shuffleStrategy;
+        generateDeck(numDecks); // Generate the initial deck
+    }
+
+    // Constructor for a restored dealer, which keeps the given shoe instead of shuffling a new one
+    private BaccaratDealer(Shoe shoe, RandomGenerator random, ShuffleStrategy shuffleStrategy, long shoeNumber, int roundNumber,
+            long shuffleCount) {
+        this.shoe = shoe;
+        this.random = random;
+        this.shuffleStrategy = shuffleStrategy;
+        this.shoeNumber = shoeNumber;
+        this.roundNumber = roundNumber;
+        this.shuffleCount = shuffleCount;
+    }
+
+    // Creates a dealer for simulation: a fast seeded generator, so every shoe can be reproduced from the seed
+    public static BaccaratDealer forSimulation(int numDecks, long seed) {
+        return new BaccaratDealer(numDecks, new SplitMix64Random(seed));
+    }
+
+    // Creates a dealer for real play, shuffling from a cryptographically strong random source
+    public static BaccaratDealer forTable(int numDecks) {
+        return new BaccaratDealer(numDecks, new SecureRandom());
+    }
+
+    // Generates a deck of cards consisting of the specified number of decks
+    public void generateDeck(int numDecks) {
+        if (shoe != null && shoe.size() == numDecks * Card.CODES) {
+            reshuffle(); // Same number of decks, so the existing storage is reused
+            return;
+        }
+        shoe = new Shoe(numDecks); // Every suite with values 1-13 for Ace through King, numDecks times over
+        shuffleDeck(); // Shuffle the deck after generation
+        startShoe();
+    }
+
+    // Returns every dealt card to the shoe without shuffling, allocating nothing
+    public void reset() {
+        shoe.reset();
+    }
+
+    // Returns every dealt card to the shoe and shuffles it in place; allocates nothing with the default shuffle
+    public void reshuffle() {
+        awaitPreparedShoe(); // The random source is not shared while a shoe is being prepared
+        shoe.reshuffle(shuffleStrategy, random);
+        shuffleCount++;
+        startShoe();
+    }
+
+    // Keeps the next shoe shuffled in the background with the given executor, so changing shoes at the cut card only
+    // swaps two shoes. The current shoe and the next one are reused in turn, so this allocates one spare shoe.
+    // A restored dealer that was already preparing shoes keeps the shoe it prepared on restore.
+    public void prepareShoesInBackground(Executor executor) {
+        shoeExecutor = executor;
+        if (preparedShoe == null) {
+            prepareShoe(new Shoe(shoe.size() / Card.CODES));
+            shuffleCount++; // A snapshot now has to record how the next shoe is prepared
+        }
+    }
+
+    // Starts shuffling a spare shoe on the executor, or shuffles it now without one. The spare is restacked first,
+    // so the prepared shoe follows from the random state alone and a snapshot can save that state instead of waiting
+    // for the shuffle and saving the shoe.
+    private void prepareShoe(Shoe spare) {
+        if (random instanceof SplitMix64Random) {
+            preparedRandomState = ((SplitMix64Random) random).getState();
+        }
+        if (shoeExecutor == null) {
+            spare.restack();
+            spare.shuffle(shuffleStrategy, random);
+            preparedShoe = CompletableFuture.completedFuture(spare);
+            return;
+        }
+        preparedShoe = CompletableFuture.supplyAsync(() -> {
+            spare.restack();
+            spare.shuffle(shuffleStrategy, random);
+            return spare;
+        }, shoeExecutor);
+    }
+
+    // Waits for the shoe being prepared, if any; returns it, or null if shoes are not prepared in the background
+    private Shoe awaitPreparedShoe() {
+        return preparedShoe == null ? null : preparedShoe.join();
+    }
+
+    // Starts the next shoe once the cut card has come out: swaps in the shoe prepared in the background if there is
+    // one of the right size, which is normally finished long before it is needed, or else shuffles a new shoe now
+    public void nextShoe(int numDecks) {
+        Shoe prepared = awaitPreparedShoe();
+        if (prepared == null || prepared.size() != numDecks * Card.CODES) {
+            generateDeck(numDecks);
+            if (prepared != null) {
+                prepareShoe(new Shoe(numDecks)); // The shoe size changed, so the spare is replaced
+            }
+            return;
+        }
+        Shoe spare = shoe;
+        shoe = prepared;
+        shuffleCount++;
+        startShoe();
+        prepareShoe(spare);
+    }
+
+    // Counts a new shoe and starts its round count again
+    private void startShoe() {
+        shoeNumber++;
+        roundNumber = 0;
+    }
+
+    // Counts the start of a round from the current shoe and returns its number, starting at 1; the first round of a
+    // shoe is the one that burns
+    public int startRound() {
+        return ++roundNumber;
+    }
+
+    // Returns the number of the current shoe, counting from 1
+    public long getShoeNumber() {
+        return shoeNumber;
+    }
+
+    // Returns the number of the last round started from the current shoe, or 0 if none
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    // Shuffles the remaining cards using the random source
+    public void shuffleDeck() {
+        awaitPreparedShoe();
+        shoe.shuffle(shuffleStrategy, random);
+        shuffleCount++;
+    }
+
+    // Returns the number of times this dealer has shuffled; the order of the cards only changes when it does
+    public long getShuffleCount() {
+        return shuffleCount;
+    }
+
+    // Returns the number of bytes a snapshot of this dealer takes
+    public int getSnapshotSize() {
+        return SNAPSHOT_HEADER + shoe.size();
+    }
+
+    // Writes the whole dealer state: every card in order, the cursor (which covers the burns, since burnt cards are
+    // only skipped), the shoe and round numbers, the shuffle count, and the random state when the random source can
+    // save it. While the next shoe is prepared in the background, the saved random state is the one its shuffle
+    // started from, so the snapshot never waits for the shuffle and a restore prepares the same shoe again.
+    public void writeSnapshot(ByteBuffer out) {
+        boolean savesRandom = random instanceof SplitMix64Random;
+        boolean preparesShoes = preparedShoe != null;
+        long randomState = !savesRandom ? 0 : preparesShoes ? preparedRandomState : ((SplitMix64Random) random).getState();
+        out.putInt(SNAPSHOT_MAGIC);
+        out.putInt((savesRandom ? HAS_RANDOM_STATE : 0) | (preparesShoes ? PREPARES_SHOES : 0));
+        out.putLong(shoeNumber);
+        out.putInt(roundNumber);
+        out.putInt(shoe.getCursor());
+        out.putInt(shoe.size());
+        out.putInt(0); // Reserved
+        out.putLong(randomState);
+        out.putLong(shuffleCount);
+        shoe.writeTo(out);
+    }
+
+    // Restores a dealer from a snapshot, dealing from the same card in the same shoe and round.
+    // A SplitMix64Random given as the random source continues from the saved state; any other source,
+    // such as the SecureRandom of a table, only decides the shuffles of later shoes.
+    // If the dealer was preparing its next shoe, the restored dealer prepares it again here, on the calling thread;
+    // prepareShoesInBackground then prepares the shoes after it on an executor.
+    public static BaccaratDealer restore(ByteBuffer in, RandomGenerator random, ShuffleStrategy shuffleStrategy) {
+        if (in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("Not a dealer snapshot");
+        }
+        int flags = in.getInt();
+        long shoeNumber = in.getLong();
+        int roundNumber = in.getInt();
+        int cursor = in.getInt();
+        int size = in.getInt();
+        in.getInt(); // Reserved
+        long randomState = in.getLong();
+        long shuffleCount = in.getLong();
+        if (size < 0 || size > in.remaining()) {
+            throw new IllegalArgumentException("Truncated dealer snapshot");
+        }
+        byte[] cards = new byte[size];
+        in.get(cards);
+        if ((flags & HAS_RANDOM_STATE) != 0 && random instanceof SplitMix64Random) {
+            ((SplitMix64Random) random).setState(randomState);
+        }
+        BaccaratDealer dealer = new BaccaratDealer(new Shoe(cards, cursor), random, shuffleStrategy, shoeNumber, roundNumber,
+                shuffleCount);
+        if ((flags & PREPARES_SHOES) != 0) {
+            dealer.prepareShoe(new Shoe(size / Card.CODES));
+        }
+        return dealer;
+    }
+
+    // Method to "burn" cards from the deck, done at the beginning of each new shoe
+    public void burnCards() {
+        burnCards(RuleSet.STANDARD);
+    }
+
+    // Burns cards by the procedure of a rule set, which gives the number of cards to remove for each first card
+    public void burnCards(RuleSet rules) {
+        int firstCard = shoe.peek();
+        if (firstCard >= 0) {
+            // Remove the first card and then as many more as the rules say, e.g. its value for the standard rules
+            shoe.skip(rules.burnCount(firstCard));
+        }
+    }
+
+    // Deals a hand of two cards from the deck
+    public ArrayList<Card> dealHand() {
+        ArrayList<Card> hand = new ArrayList<>();
+        if (shoe.remaining() < 2) {
+            // If not enough cards to deal a new hand, return an empty hand; BaccaratEngine changes shoes at the
+            // cut card, so rounds it plays never get here
+            return hand;
+        }
+        // Draw the next two cards and add them to the hand
+        hand.add(Card.fromCode(shoe.draw()));
+        hand.add(Card.fromCode(shoe.draw()));
+        return hand;
+    }
+
+    // Deals two cards into a reusable hand, clearing it first; returns false if there are not enough cards
+    public boolean dealHand(Hand hand) {
+        hand.clear();
+        if (shoe.remaining() < 2) {
+            return false;
+        }
+        hand.add(shoe.draw());
+        hand.add(shoe.draw());
+        return true;
+    }
+
+    // Draws a single card from the deck
+    public Card drawOne() {
+        int code = shoe.draw();
+        // If no cards left to draw, return null; rounds played by BaccaratEngine stop at the cut card first
+        return code < 0 ? null : Card.fromCode(code);
+    }
+
+    // Draws a single card as its code, without creating a Card; returns -1 if the deck is empty
+    public int drawCode() {
+        return shoe.draw();
+    }
+
+    // Copies the number of cards left of each rank, Ace (index 0) through King (index 12), kept up to date as cards
+    // are dealt and burnt
+    public void getRankCounts(int[] counts) {
+        shoe.getRankCounts(counts);
+    }
+
+    // Copies the number of cards left of each point value (0-9), as the odds calculator takes them
+    public void getPointCounts(int[] counts) {
+        shoe.getPointCounts(counts);
+    }
+
+    // Method to get the current size of the deck, useful for testing or UI updates
+    public int getDeckSize() {
+        return shoe.remaining();
+    }
+}
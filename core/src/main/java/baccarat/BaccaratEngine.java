@@ -0,0 +1,150 @@
+package baccarat;
+
+/**
+ * Headless Baccarat round engine.
+ * Resolves a complete round - shoe change and burn when the cut card has come out, deal, natural check, player
+ * draw, banker draw and winner - as a single synchronous call, with no dependency on JavaFX. The UI and any
+ * simulation drive the same engine.
+ */
+public class BaccaratEngine {
+    private final BaccaratDealer dealer;
+    private final BaccaratGameLogic gameLogic;
+    private final RuleSet rules;
+
+    // Hands reused from round to round, so playing a round does not allocate them
+    private final Hand playerHand = new Hand();
+    private final Hand bankerHand = new Hand();
+    private boolean natural; // Whether the last round ended on a natural
+
+    /**
+     * Constructs an engine with its own freshly shuffled shoe.
+     *
+     * @param numDecks The number of decks in the shoe.
+     */
+    public BaccaratEngine(int numDecks) {
+        this(new BaccaratDealer(numDecks), numDecks);
+    }
+
+    /**
+     * Constructs an engine with its own freshly shuffled shoe that plays by a rule set.
+     *
+     * @param rules The rules, including the number of decks in the shoe.
+     */
+    public BaccaratEngine(RuleSet rules) {
+        this(new BaccaratDealer(rules.getNumDecks()), rules);
+    }
+
+    /**
+     * Constructs an engine that deals from the given dealer.
+     *
+     * @param dealer The dealer whose shoe the rounds are played from.
+     * @param numDecks The number of decks used when the shoe has to be replaced.
+     */
+    public BaccaratEngine(BaccaratDealer dealer, int numDecks) {
+        this(dealer, RuleSet.STANDARD.withDecks(numDecks));
+    }
+
+    /**
+     * Constructs an engine that deals from the given dealer and plays by a rule set.
+     *
+     * @param dealer The dealer whose shoe the rounds are played from.
+     * @param rules The rules, whose shoe size is used when the shoe has to be replaced.
+     */
+    public BaccaratEngine(BaccaratDealer dealer, RuleSet rules) {
+        this.dealer = dealer;
+        this.gameLogic = new BaccaratGameLogic(rules);
+        this.rules = rules;
+    }
+
+    /**
+     * Plays one complete round from the shoe.
+     * A new shoe is started first if the cut card has come out, and the first round of every shoe burns.
+     *
+     * @return The immutable result of the round.
+     */
+    public RoundResult playRound() {
+        playHands();
+        return new RoundResult(playerHand, bankerHand, natural, gameLogic.whoWon(playerHand, bankerHand));
+    }
+
+    /**
+     * Plays one complete round into the engine's own hands without creating a result, for simulations.
+     * The hands can be read through {@link #getPlayerHand()} and {@link #getBankerHand()} until the next round.
+     */
+    public void playHands() {
+        if (rules.isShoeFinished(dealer.getDeckSize())) {
+            dealer.nextShoe(rules.getNumDecks()); // The cut card has come out, start a new shoe
+        }
+        if (dealer.startRound() == 1) {
+            dealer.burnCards(rules); // Once per shoe, before its first round
+        }
+        dealer.dealHand(playerHand);
+        dealer.dealHand(bankerHand);
+
+        natural = gameLogic.checkNaturalWin(playerHand, bankerHand);
+        if (!natural) {
+            int playerThirdCard = -1;
+            if (gameLogic.evaluatePlayerDraw(playerHand)) {
+                playerThirdCard = dealer.drawCode();
+                playerHand.add(playerThirdCard);
+            }
+            if (gameLogic.evaluateBankerDraw(bankerHand, playerThirdCard)) {
+                bankerHand.add(dealer.drawCode());
+            }
+        }
+    }
+
+    /**
+     * Returns the player's hand from the last round played. The hand is reused by the next round.
+     *
+     * @return The player's hand.
+     */
+    public Hand getPlayerHand() {
+        return playerHand;
+    }
+
+    /**
+     * Returns the banker's hand from the last round played. The hand is reused by the next round.
+     *
+     * @return The banker's hand.
+     */
+    public Hand getBankerHand() {
+        return bankerHand;
+    }
+
+    /**
+     * Returns whether the last round played ended on a natural.
+     *
+     * @return True if either side was dealt a natural 8 or 9.
+     */
+    public boolean wasNatural() {
+        return natural;
+    }
+
+    /**
+     * Describes the last round played, for settling side bets.
+     *
+     * @return The packed outcome, read through the methods of {@link RoundOutcome}.
+     */
+    public int getOutcome() {
+        return gameLogic.evaluateRound(playerHand, bankerHand);
+    }
+
+    /**
+     * Returns the rules this engine plays by.
+     *
+     * @return The rule set.
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the dealer this engine deals from.
+     *
+     * @return The dealer.
+     */
+    public BaccaratDealer getDealer() {
+        return dealer;
+    }
+}
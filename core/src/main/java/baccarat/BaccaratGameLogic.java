@@ -0,0 +1,193 @@
+package baccarat;
+
+import java.util.ArrayList;
+
+public class BaccaratGameLogic {
+
+    // Tableau column for each card code shifted by one, so that code -1 (no third card) maps to column 0
+    private static final byte[] THIRD_CARD_COLUMN = new byte[Card.CODES + 1];
+
+    static {
+        for (int code = 0; code < Card.CODES; code++) {
+            THIRD_CARD_COLUMN[code + 1] = (byte) (Card.pointOf(code) + 1);
+        }
+    }
+
+    // Lookup tables compiled from the rule set, indexed by total (and by player third card for the banker)
+    private final boolean[] playerDraws;
+    private final boolean[] bankerDraws;
+
+    /**
+     * Constructs the game logic for the standard rules.
+     */
+    public BaccaratGameLogic() {
+        this(RuleSet.STANDARD);
+    }
+
+    /**
+     * Constructs the game logic for a rule set, drawing by its compiled tables.
+     *
+     * @param rules The rules to play by.
+     */
+    public BaccaratGameLogic(RuleSet rules) {
+        this.playerDraws = rules.playerDrawTable();
+        this.bankerDraws = rules.bankerDrawTable();
+    }
+
+    /**
+     * Determines the winner of a round of Baccarat based on the hands of the player and banker.
+     *
+     * @param playerHand The hand of the player.
+     * @param bankerHand The hand of the banker.
+     * @return The outcome of the round - PLAYER, BANKER, or DRAW.
+     */
+    public Outcome whoWon(ArrayList<Card> playerHand, ArrayList<Card> bankerHand) {
+        return Outcome.of(handTotal(playerHand), handTotal(bankerHand));
+    }
+
+    /**
+     * Determines the winner of a round of Baccarat from hands that keep their own totals.
+     *
+     * @param playerHand The hand of the player.
+     * @param bankerHand The hand of the banker.
+     * @return The outcome of the round - PLAYER, BANKER, or DRAW.
+     */
+    public Outcome whoWon(Hand playerHand, Hand bankerHand) {
+        return Outcome.of(playerHand.total(), bankerHand.total());
+    }
+
+    /**
+     * Evaluates a finished round in a single pass over the hands, for settling the main bets and side bets together.
+     *
+     * @param playerHand The player's final hand.
+     * @param bankerHand The banker's final hand.
+     * @return The packed outcome, read through the methods of {@link RoundOutcome}.
+     */
+    public int evaluateRound(Hand playerHand, Hand bankerHand) {
+        return RoundOutcome.of(playerHand, bankerHand);
+    }
+
+    /**
+     * Calculates the total value of a hand in Baccarat.
+     * Face cards and 10s are worth 0, Aces are worth 1, and other cards are worth their face value.
+     * The total value is the sum of card values modulo 10.
+     *
+     * @param hand The hand to calculate the total for.
+     * @return The Baccarat total of the hand.
+     */
+    public int handTotal(ArrayList<Card> hand) {
+        int total = 0;
+        for (Card card : hand) {
+            if (card.getValue() > 9) { // For 10, Jack, Queen, King
+                continue; // Worth zero points in Baccarat, so they are skipped in the calculation.
+            }
+            total += card.getValue(); // Aces count as 1, and other cards count as their number value.
+        }
+        return total % 10; // Only the rightmost digit of the total is used in Baccarat.
+    }
+
+    /**
+     * Returns the Baccarat total of a hand, which the hand keeps up to date as cards are added.
+     *
+     * @param hand The hand to get the total for.
+     * @return The Baccarat total of the hand.
+     */
+    public int handTotal(Hand hand) {
+        return hand.total();
+    }
+
+    /**
+     * Checks if a "natural win" has occurred, which happens when either the player or banker has a total of 8 or 9.
+     * If a natural win occurs, the round ends immediately.
+     *
+     * @param playerHand The player's hand.
+     * @param bankerHand The banker's hand.
+     * @return True if a natural win has occurred; otherwise, false.
+     */
+    public boolean checkNaturalWin(ArrayList<Card> playerHand, ArrayList<Card> bankerHand) {
+        int playerTotal = handTotal(playerHand);
+        int bankerTotal = handTotal(bankerHand);
+        return playerTotal >= 8 || bankerTotal >= 8; // Natural win is a total of 8 or 9 for either hand.
+    }
+
+    /**
+     * Checks if a "natural win" has occurred, using the totals kept by the hands.
+     *
+     * @param playerHand The player's hand.
+     * @param bankerHand The banker's hand.
+     * @return True if a natural win has occurred; otherwise, false.
+     */
+    public boolean checkNaturalWin(Hand playerHand, Hand bankerHand) {
+        return playerHand.total() >= 8 || bankerHand.total() >= 8;
+    }
+
+    /**
+     * Determines if the player should draw a third card.
+     * According to Baccarat rules, the player draws if the total is 5 or less.
+     *
+     * @param hand The player's hand.
+     * @return True if the player should draw a card; otherwise, false.
+     */
+    public boolean evaluatePlayerDraw(ArrayList<Card> hand) {
+        return playerDraws[handTotal(hand)]; // Player draws if total is 5 or less.
+    }
+
+    /**
+     * Determines if the player should draw a third card, using the total kept by the hand.
+     *
+     * @param hand The player's hand.
+     * @return True if the player should draw a card; otherwise, false.
+     */
+    public boolean evaluatePlayerDraw(Hand hand) {
+        return playerDraws[hand.total()];
+    }
+
+    /**
+     * Determines if the banker should draw a third card, based on complex Baccarat rules.
+     * The decision depends on the banker's current total and the value of the player's third card (if drawn).
+     *
+     * @param bankerHand The banker's hand.
+     * @param playerThirdCard The player's third card, if any. Null if the player did not draw a third card.
+     * @return True if the banker should draw a card; otherwise, false.
+     */
+    public boolean evaluateBankerDraw(ArrayList<Card> bankerHand, Card playerThirdCard) {
+        if (playerThirdCard == null) {
+            return bankerDraws[handTotal(bankerHand) * 11];
+        }
+        int playerThirdValue = playerThirdCard.getValue();
+        playerThirdValue = (playerThirdValue > 9) ? 0 : playerThirdValue; // Face cards (including 10s) count as 0.
+        return bankerDraws[handTotal(bankerHand) * 11 + playerThirdValue + 1];
+    }
+
+    /**
+     * Determines if the banker should draw a third card, using the total kept by the hand and an encoded card.
+     *
+     * @param bankerHand The banker's hand.
+     * @param playerThirdCard The code of the player's third card, or -1 if the player did not draw a third card.
+     * @return True if the banker should draw a card; otherwise, false.
+     */
+    public boolean evaluateBankerDraw(Hand bankerHand, int playerThirdCard) {
+        return bankerDraws[bankerHand.total() * 11 + THIRD_CARD_COLUMN[playerThirdCard + 1]];
+    }
+
+    /**
+     * Looks up the banker's drawing rule in the standard tableau.
+     *
+     * @param bankerTotal The banker's total, 0 through 9.
+     * @param playerThirdValue The point value (0-9) of the player's third card, or -1 if the player stood.
+     * @return True if the banker draws; otherwise, false.
+     */
+    public static boolean bankerDraws(int bankerTotal, int playerThirdValue) {
+        return RuleSet.STANDARD.bankerDraws(bankerTotal, playerThirdValue);
+    }
+
+    /**
+     * Looks up the player's drawing rule in the standard table.
+     *
+     * @param playerTotal The player's total, 0 through 9.
+     * @return True if the player draws; otherwise, false.
+     */
+    public static boolean playerDraws(int playerTotal) {
+        return RuleSet.STANDARD.playerDraws(playerTotal);
+    }
+}
@@ -0,0 +1,95 @@
+package baccarat;
+
+/**
+ * Exact outcome probabilities of one Baccarat round dealt from a known shoe composition,
+ * and the expected value of each bet at the payouts of a rule set.
+ */
+public final class BaccaratOdds {
+    private final double playerWin;
+    private final double bankerWin;
+    private final double draw;
+    private final double playerBetEv;
+    private final double bankerBetEv;
+    private final double drawBetEv;
+
+    /**
+     * Constructs a BaccaratOdds from the probability of each outcome and the expected value of each bet at the
+     * payouts of a rule set, as {@link RuleSet#netUnits(int, int)} prices them.
+     *
+     * @param playerWin The probability that the player wins.
+     * @param bankerWin The probability that the banker wins.
+     * @param draw The probability of a draw.
+     * @param playerBetEv The expected value of a one unit bet on the player.
+     * @param bankerBetEv The expected value of a one unit bet on the banker.
+     * @param drawBetEv The expected value of a one unit bet on a draw.
+     */
+    public BaccaratOdds(double playerWin, double bankerWin, double draw, double playerBetEv, double bankerBetEv, double drawBetEv) {
+        this.playerWin = playerWin;
+        this.bankerWin = bankerWin;
+        this.draw = draw;
+        this.playerBetEv = playerBetEv;
+        this.bankerBetEv = bankerBetEv;
+        this.drawBetEv = drawBetEv;
+    }
+
+    /**
+     * Returns the probability that the player wins.
+     *
+     * @return The probability, 0 through 1.
+     */
+    public double getPlayerWin() {
+        return playerWin;
+    }
+
+    /**
+     * Returns the probability that the banker wins.
+     *
+     * @return The probability, 0 through 1.
+     */
+    public double getBankerWin() {
+        return bankerWin;
+    }
+
+    /**
+     * Returns the probability of a draw.
+     *
+     * @return The probability, 0 through 1.
+     */
+    public double getDraw() {
+        return draw;
+    }
+
+    /**
+     * Returns the expected value of a one unit bet on the player. The bet is returned on a draw.
+     *
+     * @return The expected win (positive) or loss (negative) per unit bet.
+     */
+    public double getPlayerBetEv() {
+        return playerBetEv;
+    }
+
+    /**
+     * Returns the expected value of a one unit bet on the banker, after any commission.
+     * The bet is returned on a draw.
+     *
+     * @return The expected win (positive) or loss (negative) per unit bet.
+     */
+    public double getBankerBetEv() {
+        return bankerBetEv;
+    }
+
+    /**
+     * Returns the expected value of a one unit bet on a draw, which pays even money under the standard rules.
+     *
+     * @return The expected win (positive) or loss (negative) per unit bet.
+     */
+    public double getDrawBetEv() {
+        return drawBetEv;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Player %.6f, Banker %.6f, Draw %.6f (EV Player %.6f, Banker %.6f, Draw %.6f)",
+                playerWin, bankerWin, draw, getPlayerBetEv(), getBankerBetEv(), getDrawBetEv());
+    }
+}
@@ -0,0 +1,266 @@
+package baccarat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Computes exact Baccarat odds by enumerating every reachable deal of four to six cards from a shoe composition.
+ * Each deal is weighted by its probability of being drawn without replacement, and the draws and payouts follow a
+ * RuleSet's tables, the same ones BaccaratGameLogic plays by, so the result is a reference for the rules as they
+ * are played.
+ *
+ * Cards are grouped by point value (10s and face cards all count as 0), which keeps the enumeration to at most
+ * 10^6 leaves. Each leaf is tallied by what the bets settle on (winner, banker total and banker card count), so
+ * variants that pay some banker wins differently are priced exactly. The ten first-card branches run in parallel,
+ * and results are cached per composition and rule set.
+ */
+public final class BaccaratOddsCalculator {
+    // Compositions kept in the cache before it is cleared; a live shoe only moves through a few hundred
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<Composition, BaccaratOdds> CACHE = new ConcurrentHashMap<>();
+
+    private BaccaratOddsCalculator() {
+    }
+
+    /**
+     * Computes the odds for a full shoe.
+     *
+     * @param numDecks The number of standard 52 card decks in the shoe.
+     * @return The exact odds of the first round dealt from the shoe.
+     */
+    public static BaccaratOdds forDecks(int numDecks) {
+        return forRules(RuleSet.STANDARD.withDecks(numDecks));
+    }
+
+    /**
+     * Computes the odds for a full shoe under a rule set.
+     *
+     * @param rules The rules, including the number of decks in the shoe.
+     * @return The exact odds of the first round dealt from the shoe.
+     */
+    public static BaccaratOdds forRules(RuleSet rules) {
+        int[] pointCounts = new int[10];
+        pointCounts[0] = 16 * rules.getNumDecks(); // 10, Jack, Queen and King of each suite
+        for (int point = 1; point <= 9; point++) {
+            pointCounts[point] = 4 * rules.getNumDecks();
+        }
+        return calculate(pointCounts, rules);
+    }
+
+    /**
+     * Computes the odds for a shoe described by the number of cards left of each value, under the standard rules.
+     *
+     * @param rankCounts Thirteen counts, for Ace (index 0) through King (index 12).
+     * @return The exact odds of the next round.
+     */
+    public static BaccaratOdds fromRankCounts(int[] rankCounts) {
+        return fromRankCounts(rankCounts, RuleSet.STANDARD);
+    }
+
+    /**
+     * Computes the odds under a rule set for a shoe described by the number of cards left of each value.
+     *
+     * @param rankCounts Thirteen counts, for Ace (index 0) through King (index 12).
+     * @param rules The rules the round is played and paid by.
+     * @return The exact odds of the next round.
+     */
+    public static BaccaratOdds fromRankCounts(int[] rankCounts, RuleSet rules) {
+        if (rankCounts.length != 13) {
+            throw new IllegalArgumentException("Expected 13 rank counts, got " + rankCounts.length);
+        }
+        int[] pointCounts = new int[10];
+        for (int value = 1; value <= 13; value++) {
+            pointCounts[value > 9 ? 0 : value] += rankCounts[value - 1];
+        }
+        return calculate(pointCounts, rules);
+    }
+
+    /**
+     * Computes the odds for a shoe described by the number of cards left of each point value.
+     * The shoe should hold at least six cards, or some rounds cannot be completed.
+     *
+     * @param pointCounts Ten counts, indexed by point value 0 through 9.
+     * @return The exact odds of the next round.
+     */
+    public static BaccaratOdds calculate(int[] pointCounts) {
+        return calculate(pointCounts, RuleSet.STANDARD);
+    }
+
+    /**
+     * Computes the odds for a shoe described by the number of cards left of each point value, under a rule set.
+     *
+     * @param pointCounts Ten counts, indexed by point value 0 through 9.
+     * @param rules The drawing rules and payouts.
+     * @return The exact odds of the next round.
+     */
+    public static BaccaratOdds calculate(int[] pointCounts, RuleSet rules) {
+        if (pointCounts.length != 10) {
+            throw new IllegalArgumentException("Expected 10 point counts, got " + pointCounts.length);
+        }
+        Composition key = new Composition(pointCounts.clone(), rules);
+        BaccaratOdds cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        double[] settlements = settlementProbabilities(pointCounts, rules);
+        double[] probability = new double[3];
+        double[] ev = new double[3];
+        for (int settlement = 0; settlement < RuleSet.SETTLEMENT_KEYS; settlement++) {
+            double weight = settlements[settlement];
+            if (weight == 0) {
+                continue;
+            }
+            probability[settlement & 3] += weight; // The winner is the low bits of the key
+            for (int type = BetBook.PLAYER; type <= BetBook.DRAW; type++) {
+                ev[type] += weight * rules.netUnits(type, settlement);
+            }
+        }
+        BaccaratOdds odds = new BaccaratOdds(probability[BetBook.PLAYER], probability[BetBook.BANKER], probability[BetBook.DRAW],
+                ev[BetBook.PLAYER], ev[BetBook.BANKER], ev[BetBook.DRAW]);
+        if (CACHE.size() >= MAX_CACHED) {
+            CACHE.clear();
+        }
+        CACHE.put(key, odds);
+        return odds;
+    }
+
+    /**
+     * Computes the probability of each settlement key of the next round, as {@link RuleSet#settlementKey(int)} builds
+     * them, for a shoe described by the number of cards left of each point value. Not cached.
+     *
+     * @param pointCounts Ten counts, indexed by point value 0 through 9.
+     * @param rules The drawing rules.
+     * @return {@link RuleSet#SETTLEMENT_KEYS} probabilities, indexed by settlement key.
+     */
+    static double[] settlementProbabilities(int[] pointCounts, RuleSet rules) {
+        int cards = 0;
+        for (int count : pointCounts) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative card count in " + Arrays.toString(pointCounts));
+            }
+            cards += count;
+        }
+        final int total = cards;
+
+        // One branch per player first card, each on its own copy of the counts
+        double[][] branches = new double[10][];
+        IntStream.range(0, 10).parallel().forEach(first -> {
+            double[] tally = new double[RuleSet.SETTLEMENT_KEYS];
+            if (pointCounts[first] > 0) {
+                int[] counts = pointCounts.clone();
+                double weight = (double) counts[first] / total;
+                counts[first]--;
+                dealBankerFirst(rules, counts, total - 1, first, weight, tally);
+            }
+            branches[first] = tally;
+        });
+
+        // Summed in a fixed order so the result does not depend on thread scheduling
+        double[] settlements = new double[RuleSet.SETTLEMENT_KEYS];
+        for (double[] tally : branches) {
+            for (int settlement = 0; settlement < RuleSet.SETTLEMENT_KEYS; settlement++) {
+                settlements[settlement] += tally[settlement];
+            }
+        }
+        return settlements;
+    }
+
+    // Deals the banker's first card, then the second card of each hand
+    private static void dealBankerFirst(RuleSet rules, int[] counts, int remaining, int p1, double weight, double[] tally) {
+        for (int b1 = 0; b1 < 10; b1++) {
+            if (counts[b1] == 0) {
+                continue;
+            }
+            double w1 = weight * counts[b1] / remaining;
+            counts[b1]--;
+            for (int p2 = 0; p2 < 10; p2++) {
+                if (counts[p2] == 0) {
+                    continue;
+                }
+                double w2 = w1 * counts[p2] / (remaining - 1);
+                counts[p2]--;
+                for (int b2 = 0; b2 < 10; b2++) {
+                    if (counts[b2] == 0) {
+                        continue;
+                    }
+                    double w3 = w2 * counts[b2] / (remaining - 2);
+                    counts[b2]--;
+                    resolve(rules, counts, remaining - 3, (p1 + p2) % 10, (b1 + b2) % 10, w3, tally);
+                    counts[b2]++;
+                }
+                counts[p2]++;
+            }
+            counts[b1]++;
+        }
+    }
+
+    // Plays out the third cards from two card totals and adds the weight to the winner's tally
+    private static void resolve(RuleSet rules, int[] counts, int remaining, int playerTotal, int bankerTotal, double weight,
+                                double[] tally) {
+        if (playerTotal >= 8 || bankerTotal >= 8) {
+            settle(playerTotal, bankerTotal, 2, weight, tally); // Natural, no more cards
+            return;
+        }
+        if (!rules.playerDraws(playerTotal)) {
+            bankerThirdCard(rules, counts, remaining, playerTotal, bankerTotal, -1, weight, tally);
+            return;
+        }
+        for (int p3 = 0; p3 < 10; p3++) {
+            if (counts[p3] == 0) {
+                continue;
+            }
+            double w = weight * counts[p3] / remaining;
+            counts[p3]--;
+            bankerThirdCard(rules, counts, remaining - 1, (playerTotal + p3) % 10, bankerTotal, p3, w, tally);
+            counts[p3]++;
+        }
+    }
+
+    // Applies the banker's drawing rule and settles the round
+    private static void bankerThirdCard(RuleSet rules, int[] counts, int remaining, int playerTotal, int bankerTotal,
+                                        int playerThird, double weight, double[] tally) {
+        if (!rules.bankerDraws(bankerTotal, playerThird)) {
+            settle(playerTotal, bankerTotal, 2, weight, tally);
+            return;
+        }
+        for (int b3 = 0; b3 < 10; b3++) {
+            if (counts[b3] != 0) {
+                settle(playerTotal, (bankerTotal + b3) % 10, 3, weight * counts[b3] / remaining, tally);
+            }
+        }
+    }
+
+    // Adds the weight under the settlement key of the round, as RuleSet.settlementKey builds it
+    private static void settle(int playerTotal, int bankerTotal, int bankerCards, double weight, double[] tally) {
+        int winner = playerTotal > bankerTotal ? BetBook.PLAYER : bankerTotal > playerTotal ? BetBook.BANKER : BetBook.DRAW;
+        tally[winner | bankerTotal << 2 | bankerCards << 6] += weight;
+    }
+
+    // Cache key for a composition under a rule set, compared by its counts and rules
+    private static final class Composition {
+        private final int[] counts;
+        private final RuleSet rules;
+        private final int hash;
+
+        Composition(int[] counts, RuleSet rules) {
+            this.counts = counts;
+            this.rules = rules;
+            this.hash = Arrays.hashCode(counts) * 31 + rules.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Composition && Arrays.equals(counts, ((Composition) other).counts)
+                    && rules.equals(((Composition) other).rules);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package baccarat;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One table with its own shoe and round state.
+ * Bets may be placed from any thread and wait in a lock-free queue; rounds are played by a single task at a time,
+ * so the engine, the shoe and the hands are only ever touched by one thread.
+ */
+public final class BaccaratTable {
+    private final int id;
+    private final BaccaratEngine engine;
+    private final Queue<PendingBet> bets = new ConcurrentLinkedQueue<>();
+    private final BetBook book; // Reused every round
+    private final ArrayList<PendingBet> roundBets = new ArrayList<>(); // Bets in the book, by book index
+    private final RoundJournal journal; // Null when rounds are not recorded
+    private final RoundEventPublisher events; // Null when rounds are not published
+    private final DealerCheckpoint checkpoint = new DealerCheckpoint(); // Dealer state after the last round
+    private final Scoreboard scoreboard = new Scoreboard(128); // Roads of the current shoe
+    private long scoreboardShoe; // Shoe the scoreboard is recording
+    private final LiveOddsEstimator oddsEstimator;
+    private volatile BaccaratOdds liveOdds; // Estimated odds of the next round, read from other threads
+    private volatile long roundsPlayed; // Written only by the round task, read from other threads
+    private volatile boolean closed; // Set before the last drain of the queue; no bet is queued after it
+    private final TableMetrics metrics; // Null unless Metrics.ENABLED
+
+    /**
+     * Constructs a table dealing from the given dealer.
+     *
+     * @param id The table id.
+     * @param dealer The dealer that owns this table's shoe.
+     * @param numDecks The number of decks in the shoe.
+     */
+    public BaccaratTable(int id, BaccaratDealer dealer, int numDecks) {
+        this(id, dealer, numDecks, null);
+    }
+
+    /**
+     * Constructs a table dealing from the given dealer that records every round it plays.
+     *
+     * @param id The table id.
+     * @param dealer The dealer that owns this table's shoe.
+     * @param numDecks The number of decks in the shoe.
+     * @param journal The journal the rounds are appended to, or null to not record them.
+     */
+    public BaccaratTable(int id, BaccaratDealer dealer, int numDecks, RoundJournal journal) {
+        this(id, dealer, RuleSet.STANDARD.withDecks(numDecks), journal);
+    }
+
+    /**
+     * Constructs a table dealing from the given dealer that plays by a rule set and records every round it plays.
+     *
+     * @param id The table id.
+     * @param dealer The dealer that owns this table's shoe.
+     * @param rules The rules, including the number of decks in the shoe.
+     * @param journal The journal the rounds are appended to, or null to not record them.
+     */
+    public BaccaratTable(int id, BaccaratDealer dealer, RuleSet rules, RoundJournal journal) {
+        this(id, dealer, rules, journal, null);
+    }
+
+    /**
+     * Constructs a table that also publishes the events of every round it plays.
+     *
+     * @param id The table id.
+     * @param dealer The dealer that owns this table's shoe.
+     * @param rules The rules, including the number of decks in the shoe.
+     * @param journal The journal the rounds are appended to, or null to not record them.
+     * @param events The publisher the round events are offered to, or null to not publish them.
+     */
+    public BaccaratTable(int id, BaccaratDealer dealer, RuleSet rules, RoundJournal journal, RoundEventPublisher events) {
+        this.id = id;
+        this.events = events;
+        this.engine = new BaccaratEngine(dealer, rules);
+        this.book = new BetBook(64, rules);
+        this.journal = journal;
+        this.metrics = Metrics.ENABLED ? Metrics.forTable(id) : null;
+        this.oddsEstimator = LiveOddsEstimator.forRules(rules);
+        this.liveOdds = oddsEstimator.estimate(dealer);
+        checkpoint.update(dealer);
+    }
+
+    /**
+     * Returns the table id.
+     *
+     * @return The id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Places a bet on the next round. The amount is taken from the session straight away.
+     *
+     * @param session The session placing the bet.
+     * @param betChoice The side bet on.
+     * @param amount The amount wagered, in cents.
+     * @return A future completed when the round is settled, or failed if the bankroll does not cover the bet or the
+     *         table is closed.
+     */
+    public CompletableFuture<BetResult> placeBet(PlayerSession session, BetType betChoice, long amount) {
+        CompletableFuture<BetResult> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new IllegalStateException("Table " + id + " closed"));
+        } else if (amount <= 0) {
+            result.completeExceptionally(new IllegalArgumentException("Bet amount must be positive: " + amount));
+        } else if (!session.placeBet(id, amount)) {
+            result.completeExceptionally(new IllegalStateException("Bankroll of session " + session.getId() + " does not cover " + Money.format(amount)));
+        } else {
+            bets.add(new PendingBet(session, betChoice, amount, result));
+            if (closed) {
+                refundPendingBets(); // The table closed after the check above, and its drain may have missed this bet
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plays one round and settles every bet placed before it started. If the round fails part way, e.g. because
+     * the journal cannot take it, every bet on it that is not yet settled is refunded and its future failed before
+     * the exception is rethrown.
+     * Must not be called from more than one thread at a time.
+     *
+     * @return The result of the round.
+     */
+    public RoundResult playRound() {
+        book.clear();
+        roundBets.clear();
+        PendingBet bet;
+        while ((bet = bets.poll()) != null) {
+            book.add(bet.session.getId(), bet.betChoice.getCode(), bet.amount);
+            roundBets.add(bet);
+        }
+        try {
+            return dealAndSettle();
+        } catch (RuntimeException e) {
+            for (int i = 0; i < roundBets.size(); i++) {
+                bet = roundBets.get(i);
+                if (!bet.result.isDone()) {
+                    bet.session.refund(id, bet.amount);
+                    bet.result.completeExceptionally(new IllegalStateException("Round at table " + id + " failed", e));
+                }
+            }
+            throw e;
+        }
+    }
+
+    // Deals the round and settles the bets drawn into the book
+    private RoundResult dealAndSettle() {
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        RoundResult round = engine.playRound();
+        roundsPlayed++;
+        BaccaratDealer dealer = engine.getDealer();
+        if (dealer.getShoeNumber() != scoreboardShoe) {
+            scoreboard.clear(); // The roads start again with every shoe
+            if (Metrics.ENABLED && scoreboardShoe != 0) {
+                metrics.recordShoeChange();
+            }
+            scoreboardShoe = dealer.getShoeNumber();
+        }
+        scoreboard.record(round);
+        long settleStart = 0;
+        if (Metrics.ENABLED) {
+            settleStart = System.nanoTime();
+            metrics.recordRound(settleStart - start);
+        }
+        book.settleRound(round.getOutcome()); // Every bet on the round in one pass
+        if (journal != null) {
+            journal.append(id, dealer.getShoeNumber(), dealer.getRoundNumber(), round, book);
+        }
+        if (events != null) {
+            events.publishRound(id, dealer.getShoeNumber(), dealer.getRoundNumber(), round);
+        }
+        checkpoint.update(dealer);
+        liveOdds = oddsEstimator.estimate(dealer);
+
+        for (int i = 0; i < roundBets.size(); i++) {
+            PendingBet bet = roundBets.get(i);
+            long payout = book.getPayout(i);
+            long bankroll = bet.session.settle(id, roundsPlayed, bet.amount, payout); // The stake comes back unless the bet lost
+            bet.result.complete(new BetResult(bet.session.getId(), id, round, bet.betChoice, bet.amount, payout, bankroll));
+        }
+        if (Metrics.ENABLED) {
+            metrics.recordSettlement(roundBets.size(), System.nanoTime() - settleStart);
+        }
+        if (events != null) {
+            long wagered = 0;
+            long paid = 0;
+            for (int type = BetBook.PLAYER; type <= BetBook.DRAW; type++) {
+                wagered += book.getWagered(type);
+                paid += book.getPaid(type);
+            }
+            events.publishSettlement(id, dealer.getShoeNumber(), dealer.getRoundNumber(), round, book.size(), wagered, paid);
+        }
+        return round;
+    }
+
+    /**
+     * Closes the table to new bets, then returns every bet still waiting for a round to its session and fails its
+     * future. A bet placed while the table closes is either refunded here or by the placing thread itself.
+     */
+    public void close() {
+        closed = true;
+        refundPendingBets();
+    }
+
+    // Returns every bet waiting for a round to its session and fails its future
+    private void refundPendingBets() {
+        PendingBet bet;
+        while ((bet = bets.poll()) != null) {
+            bet.session.refund(id, bet.amount);
+            bet.result.completeExceptionally(new IllegalStateException("Table " + id + " closed"));
+        }
+    }
+
+    /**
+     * Returns the scoreboard of this table's current shoe.
+     *
+     * @return The scoreboard.
+     */
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * Returns the estimated odds and bet EVs of the next round, from the cards left in the shoe after the last round.
+     * The next round may start a new shoe if too few cards are left.
+     *
+     * @return The estimated odds.
+     */
+    public BaccaratOdds getLiveOdds() {
+        return liveOdds;
+    }
+
+    /**
+     * Returns the checkpoint of this table's dealer, which is brought up to date after every round.
+     * Its snapshot restores the shoe where the last completed round left it.
+     *
+     * @return The checkpoint.
+     */
+    public DealerCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Returns the number of rounds this table has played.
+     *
+     * @return The round count.
+     */
+    public long getRoundsPlayed() {
+        return roundsPlayed;
+    }
+
+    // A bet waiting for the next round
+    private static final class PendingBet {
+        final PlayerSession session;
+        final BetType betChoice;
+        final long amount; // Cents
+        final CompletableFuture<BetResult> result;
+
+        PendingBet(PlayerSession session, BetType betChoice, long amount, CompletableFuture<BetResult> result) {
+            this.session = session;
+            this.betChoice = betChoice;
+            this.amount = amount;
+            this.result = result;
+        }
+    }
+}
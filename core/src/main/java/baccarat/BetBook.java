@@ -0,0 +1,208 @@
+package baccarat;
+
+import java.util.Arrays;
+
+/**
+ * Every bet placed on one round, kept in parallel primitive arrays and settled together in one pass.
+ * The book is cleared and reused for the next round, so once its arrays have grown to the table's usual volume
+ * taking and settling bets allocates nothing.
+ */
+public final class BetBook {
+    /** Bet type for a bet on the player, the code of {@link BetType#PLAYER} and {@link Outcome#PLAYER}. */
+    public static final int PLAYER = 0;
+    /** Bet type for a bet on the banker, the code of {@link BetType#BANKER} and {@link Outcome#BANKER}. */
+    public static final int BANKER = 1;
+    /** Bet type for a bet on a draw, the code of {@link BetType#DRAW} and {@link Outcome#DRAW}. */
+    public static final int DRAW = 2;
+
+    private static final int BET_TYPES = 3;
+
+    private long[] sessionIds;
+    private int[] types;
+    private long[] amounts; // Cents
+    private long[] payouts; // Cents
+    private int size;
+    private boolean settled;
+
+    // Running totals in cents, per bet type
+    private final long[] wagered = new long[BET_TYPES];
+    private final long[] paid = new long[BET_TYPES];
+
+    private final RuleSet rules; // Payouts every bet is settled at
+
+    // How each bet type settles against the current round: stakes won (1 for even money, 0 returned, -1 lost),
+    // and the share of the stake taken back, such as the commission
+    private final long[] multiplier = new long[BET_TYPES];
+    private final long[] deductionBps = new long[BET_TYPES];
+
+    /**
+     * Constructs an empty book for the standard rules.
+     *
+     * @param initialCapacity The number of bets the book can take before its arrays grow.
+     */
+    public BetBook(int initialCapacity) {
+        this(initialCapacity, RuleSet.STANDARD);
+    }
+
+    /**
+     * Constructs an empty book that settles rounds at the payouts of a rule set.
+     *
+     * @param initialCapacity The number of bets the book can take before its arrays grow.
+     * @param rules The rules.
+     */
+    public BetBook(int initialCapacity, RuleSet rules) {
+        this.rules = rules;
+        int capacity = Math.max(1, initialCapacity);
+        sessionIds = new long[capacity];
+        types = new int[capacity];
+        amounts = new long[capacity];
+        payouts = new long[capacity];
+    }
+
+    /**
+     * Adds a bet to the book.
+     *
+     * @param sessionId The session placing the bet.
+     * @param type The bet type.
+     * @param amount The amount wagered, in cents.
+     * @return The index of the bet, used to read its payout once the book is settled.
+     */
+    public int add(long sessionId, int type, long amount) {
+        if (settled) {
+            throw new IllegalStateException("Book is already settled");
+        }
+        if (size == types.length) {
+            int capacity = size * 2;
+            sessionIds = Arrays.copyOf(sessionIds, capacity);
+            types = Arrays.copyOf(types, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            payouts = Arrays.copyOf(payouts, capacity);
+        }
+        sessionIds[size] = sessionId;
+        types[size] = type;
+        amounts[size] = amount;
+        wagered[type] += amount;
+        return size++;
+    }
+
+    /**
+     * Settles every bet on a round at the payouts of the book's rule set, which may depend on more than the winner,
+     * e.g. a banker win on 6 paying half.
+     *
+     * @param outcome The packed outcome of the round, from {@link RoundOutcome}.
+     */
+    public void settleRound(int outcome) {
+        int key = RuleSet.settlementKey(outcome);
+        for (int type = 0; type < BET_TYPES; type++) {
+            multiplier[type] = rules.multiplier(type, key);
+            deductionBps[type] = rules.deductionBps(type, key);
+        }
+        settleBets();
+    }
+
+    // Settles every bet by the multiplier and deduction of its type
+    private void settleBets() {
+        Arrays.fill(paid, 0);
+        for (int i = 0; i < size; i++) {
+            int type = types[i];
+            long amount = amounts[i];
+            // Deduction rounded half up to the cent, as in Money.commission
+            long payout = amount * multiplier[type] - (amount * deductionBps[type] + 5_000) / 10_000;
+            payouts[i] = payout;
+            paid[type] += payout;
+        }
+        settled = true;
+    }
+
+    /**
+     * Empties the book for the next round, keeping its arrays.
+     */
+    public void clear() {
+        size = 0;
+        settled = false;
+        Arrays.fill(wagered, 0);
+        Arrays.fill(paid, 0);
+    }
+
+    /**
+     * Returns the number of bets in the book.
+     *
+     * @return The bet count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the session that placed a bet.
+     *
+     * @param index The index returned by {@link #add(long, int, long)}.
+     * @return The session id.
+     */
+    public long getSessionId(int index) {
+        return sessionIds[index];
+    }
+
+    /**
+     * Returns the type of a bet.
+     *
+     * @param index The index returned by {@link #add(long, int, long)}.
+     * @return The bet type.
+     */
+    public int getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the amount wagered on a bet.
+     *
+     * @param index The index returned by {@link #add(long, int, long)}.
+     * @return The amount in cents.
+     */
+    public long getAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Returns the net result of a settled bet.
+     *
+     * @param index The index returned by {@link #add(long, int, long)}.
+     * @return The cents won (positive), lost (negative), or zero if the bet was returned.
+     */
+    public long getPayout(int index) {
+        if (!settled) {
+            throw new IllegalStateException("Book is not settled yet");
+        }
+        return payouts[index];
+    }
+
+    /**
+     * Returns the total amount wagered on one bet type.
+     *
+     * @param type The bet type.
+     * @return The total in cents.
+     */
+    public long getWagered(int type) {
+        return wagered[type];
+    }
+
+    /**
+     * Returns the total net result of one bet type once the book is settled.
+     * Positive totals were paid out by the house; negative totals were won by it.
+     *
+     * @param type The bet type.
+     * @return The total in cents.
+     */
+    public long getPaid(int type) {
+        return paid[type];
+    }
+
+    /**
+     * Returns whether the book has been settled.
+     *
+     * @return True once {@link #settleRound(int)} has run.
+     */
+    public boolean isSettled() {
+        return settled;
+    }
+}
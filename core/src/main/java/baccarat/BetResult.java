@@ -0,0 +1,98 @@
+package baccarat;
+
+/**
+ * The settlement of one bet placed at a table.
+ */
+public final class BetResult {
+    private final long sessionId;
+    private final int tableId;
+    private final RoundResult round;
+    private final BetType betChoice;
+    private final long amount;
+    private final long payout;
+    private final long bankroll;
+
+    /**
+     * Constructs a BetResult.
+     *
+     * @param sessionId The session that placed the bet.
+     * @param tableId The table the bet was placed at.
+     * @param round The round the bet was settled on.
+     * @param betChoice The side bet on.
+     * @param amount The amount wagered, in cents.
+     * @param payout The cents won (positive), lost (negative), or zero if the bet was returned.
+     * @param bankroll The session's bankroll once the bet was settled, in cents.
+     */
+    public BetResult(long sessionId, int tableId, RoundResult round, BetType betChoice, long amount, long payout, long bankroll) {
+        this.sessionId = sessionId;
+        this.tableId = tableId;
+        this.round = round;
+        this.betChoice = betChoice;
+        this.amount = amount;
+        this.payout = payout;
+        this.bankroll = bankroll;
+    }
+
+    /**
+     * Returns the session that placed the bet.
+     *
+     * @return The session id.
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returns the table the bet was placed at.
+     *
+     * @return The table id.
+     */
+    public int getTableId() {
+        return tableId;
+    }
+
+    /**
+     * Returns the round the bet was settled on.
+     *
+     * @return The round.
+     */
+    public RoundResult getRound() {
+        return round;
+    }
+
+    /**
+     * Returns the side that was bet on.
+     *
+     * @return The bet type.
+     */
+    public BetType getBetChoice() {
+        return betChoice;
+    }
+
+    /**
+     * Returns the amount wagered.
+     *
+     * @return The amount in cents.
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns the net result of the bet.
+     *
+     * @return The cents won (positive), lost (negative), or zero if the bet was returned.
+     */
+    public long getPayout() {
+        return payout;
+    }
+
+    /**
+     * Returns the session's bankroll once this bet was settled.
+     *
+     * @return The bankroll in cents.
+     */
+    public long getBankroll() {
+        return bankroll;
+    }
+}
@@ -0,0 +1,50 @@
+package baccarat;
+
+/**
+ * The main bets of a round of Baccarat.
+ * Each bet type has the same code as the outcome it wins on, and the codes index the totals kept by
+ * {@link BetBook}, so a bet is settled by comparing codes rather than names.
+ */
+public enum BetType {
+    /** A bet that the player wins; pays even money. */
+    PLAYER,
+    /** A bet that the banker wins; pays even money less commission. */
+    BANKER,
+    /** A bet that the round is a draw. */
+    DRAW;
+
+    private static final BetType[] BY_CODE = values();
+
+    /**
+     * Returns the code of this bet type, used by {@link BetBook} and {@link RuleSet}.
+     *
+     * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     */
+    public int getCode() {
+        return ordinal();
+    }
+
+    /**
+     * Converts a code back to its bet type.
+     *
+     * @param code BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     * @return The bet type.
+     * @throws IllegalArgumentException If the code is not a bet type.
+     */
+    public static BetType fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown bet type: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Returns whether a bet of this type wins outright on the given outcome.
+     *
+     * @param outcome The outcome of the round.
+     * @return True if the outcome is the one bet on.
+     */
+    public boolean winsOn(Outcome outcome) {
+        return ordinal() == outcome.ordinal();
+    }
+}
@@ -0,0 +1,138 @@
+package baccarat;
+
+/**
+ * Represents a playing card with a suite and a value.
+ * This class models the basic properties of a playing card used in games like Baccarat.
+ *
+ * On the hot path cards are handled as int codes from 0 to 51 (suite ordinal * 13 + value - 1) instead of
+ * Card objects. The static methods below decode them through tables built once, and Card is kept as a view
+ * for display and tests.
+ */
+public class Card {
+    /** Number of distinct card codes in a single deck. */
+    public static final int CODES = 52;
+
+    // Lookup tables indexed by card code
+    private static final byte[] VALUES = new byte[CODES];
+    private static final byte[] POINTS = new byte[CODES];
+
+    static {
+        for (int code = 0; code < CODES; code++) {
+            int value = code % 13 + 1;
+            VALUES[code] = (byte) value;
+            POINTS[code] = (byte) (value > 9 ? 0 : value); // 10s and face cards are worth zero
+        }
+    }
+
+    // Fields to store the suite and value of the card
+    private final String suite;
+    private final int value;
+
+    /**
+     * Constructs a Card with a specified suite and value.
+     *
+     * @param suite The suite of the card (e.g., "Hearts", "Spades").
+     * @param value The value of the card (1 for Ace, 2-10 for numeric cards, 11 for Jack, 12 for Queen, 13 for King).
+     */
+    public Card(String suite, int value) {
+        this.suite = suite;
+        this.value = value;
+    }
+
+    /**
+     * Returns the suite of the card.
+     *
+     * @return The suite of the card.
+     */
+    public String getSuite() {
+        return suite;
+    }
+
+    /**
+     * Returns the value of the card.
+     *
+     * @return The value of the card. Numeric values for number cards, 1 for Ace, 11 for Jack, 12 for Queen, and 13 for King.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the compact code of this card.
+     *
+     * @return The card code, 0 through 51.
+     * @throws IllegalArgumentException If the suite is not one of the four standard suites.
+     */
+    public int getCode() {
+        return code(Suit.fromDisplayName(suite), value);
+    }
+
+    /**
+     * Encodes a suite and value as a card code.
+     *
+     * @param suit The suite of the card.
+     * @param value The value of the card, 1 (Ace) through 13 (King).
+     * @return The card code, 0 through 51.
+     */
+    public static int code(Suit suit, int value) {
+        return suit.ordinal() * 13 + value - 1;
+    }
+
+    /**
+     * Returns the value of an encoded card.
+     *
+     * @param code The card code.
+     * @return The value, 1 for Ace through 13 for King.
+     */
+    public static int valueOf(int code) {
+        return VALUES[code];
+    }
+
+    /**
+     * Returns the suite of an encoded card.
+     *
+     * @param code The card code.
+     * @return The suite.
+     */
+    public static Suit suitOf(int code) {
+        return Suit.of(code / 13);
+    }
+
+    /**
+     * Returns the Baccarat point value of an encoded card.
+     * Face cards and 10s are worth 0, Aces are worth 1, and other cards are worth their face value.
+     *
+     * @param code The card code.
+     * @return The point value, 0 through 9.
+     */
+    public static int pointOf(int code) {
+        return POINTS[code];
+    }
+
+    /**
+     * Creates a Card view of an encoded card, for display or for the list based API.
+     *
+     * @param code The card code.
+     * @return A new Card with the suite and value of the code.
+     */
+    public static Card fromCode(int code) {
+        return new Card(suitOf(code).getDisplayName(), valueOf(code));
+    }
+
+    /**
+     * Provides a string representation of the card, combining its suite and value.
+     * For face cards (Jack, Queen, King) and Aces, their names are used instead of numbers.
+     *
+     * @return A string representing the card, like "Hearts Ace" or "Spades Queen".
+     */
+    @Override
+    public String toString() {
+        switch (value) {
+            case 1: return suite + " Ace";
+            case 11: return suite + " Jack";
+            case 12: return suite + " Queen";
+            case 13: return suite + " King";
+            default: return suite + " " + value; // For numeric cards, the number is returned with the suite
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package baccarat;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+/**
+ * The latest recoverable state of one dealer, brought up to date after every round.
+ *
+ * A full snapshot is only written when the dealer has shuffled since the last update. Within a shoe a round
+ * changes nothing but the round number and the cursor, so the update patches those two fields of the saved
+ * image in place, and checkpointing a round costs a few stores rather than a copy of the shoe.
+ * Updates and reads may come from different threads.
+ */
+public final class DealerCheckpoint {
+    private byte[] image;
+    private ByteBuffer buffer; // Wraps the image
+    private BaccaratDealer dealer; // The dealer the image was taken from
+    private long shuffleCount; // The dealer's shuffle count when the image was taken
+    private long fullSnapshots;
+
+    /**
+     * Brings the checkpoint up to date with the dealer's current state.
+     *
+     * @param dealer The dealer to checkpoint.
+     */
+    public synchronized void update(BaccaratDealer dealer) {
+        if (dealer != this.dealer || dealer.getShuffleCount() != shuffleCount) {
+            if (image == null || image.length != dealer.getSnapshotSize()) {
+                image = new byte[dealer.getSnapshotSize()];
+                buffer = ByteBuffer.wrap(image);
+            }
+            dealer.writeSnapshot(buffer.clear());
+            this.dealer = dealer;
+            this.shuffleCount = dealer.getShuffleCount();
+            fullSnapshots++;
+            return;
+        }
+        int shoeSize = image.length - BaccaratDealer.SNAPSHOT_HEADER;
+        buffer.putInt(BaccaratDealer.SNAPSHOT_ROUND, dealer.getRoundNumber());
+        buffer.putInt(BaccaratDealer.SNAPSHOT_CURSOR, shoeSize - dealer.getDeckSize());
+    }
+
+    /**
+     * Returns a copy of the saved state, for writing to storage.
+     *
+     * @return The snapshot, or null if the checkpoint has never been updated.
+     */
+    public synchronized byte[] toByteArray() {
+        return image == null ? null : image.clone();
+    }
+
+    /**
+     * Returns the number of full snapshots taken, which is one per shuffle rather than one per round.
+     *
+     * @return The full snapshot count.
+     */
+    public synchronized long getFullSnapshots() {
+        return fullSnapshots;
+    }
+
+    /**
+     * Restores a dealer from a saved snapshot.
+     *
+     * @param snapshot A snapshot returned by {@link #toByteArray()}.
+     * @param random The random source for the restored dealer; see {@link BaccaratDealer#restore}.
+     * @param shuffleStrategy The shuffle algorithm for the restored dealer.
+     * @return The restored dealer, about to deal the next card of its shoe.
+     */
+    public static BaccaratDealer restore(byte[] snapshot, RandomGenerator random, ShuffleStrategy shuffleStrategy) {
+        return BaccaratDealer.restore(ByteBuffer.wrap(snapshot), random, shuffleStrategy);
+    }
+}
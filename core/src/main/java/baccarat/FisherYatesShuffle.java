@@ -0,0 +1,25 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform Fisher-Yates shuffle over the primitive card array. Every ordering is equally likely, given a good
+ * random source, and the shuffle takes one random number per card and allocates nothing.
+ */
+public final class FisherYatesShuffle implements ShuffleStrategy {
+    /** Shared instance; the shuffle keeps no state. */
+    public static final FisherYatesShuffle INSTANCE = new FisherYatesShuffle();
+
+    private FisherYatesShuffle() {
+    }
+
+    @Override
+    public void shuffle(byte[] cards, int from, int to, RandomGenerator random) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package baccarat;
+
+import java.util.ArrayList;
+
+/**
+ * A Baccarat hand of at most three encoded cards.
+ * The Baccarat total is kept up to date as cards are added, so reading it never walks the cards, and a hand
+ * can be cleared and reused from round to round without allocating.
+ */
+public final class Hand {
+    /** Most cards a Baccarat hand can hold. */
+    public static final int CAPACITY = 3;
+
+    private final byte[] cards = new byte[CAPACITY];
+    private int size;
+    private int total;
+
+    /**
+     * Adds a card to the hand and updates the total.
+     *
+     * @param code The code of the card.
+     * @throws IllegalStateException If the hand already holds three cards.
+     */
+    public void add(int code) {
+        if (size == CAPACITY) {
+            throw new IllegalStateException("A hand holds at most " + CAPACITY + " cards");
+        }
+        cards[size++] = (byte) code;
+        total = (total + Card.pointOf(code)) % 10; // Only the rightmost digit of the total is used in Baccarat
+    }
+
+    /**
+     * Empties the hand so it can be dealt again.
+     */
+    public void clear() {
+        size = 0;
+        total = 0;
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     *
+     * @return 0 through 3.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the code of the card at the given position.
+     *
+     * @param index The position of the card, in the order it was dealt.
+     * @return The card code.
+     * @throws IndexOutOfBoundsException If there is no card at that position.
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Hand has " + size + " cards, no card at " + index);
+        }
+        return cards[index];
+    }
+
+    /**
+     * Returns the code of the third card, if one was drawn.
+     *
+     * @return The card code, or -1 if the hand holds fewer than three cards.
+     */
+    public int thirdCard() {
+        return size == CAPACITY ? cards[2] : -1;
+    }
+
+    /**
+     * Returns the Baccarat total of the hand.
+     *
+     * @return The total, 0 through 9.
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Packs the cards of this hand into a single int: six bits per card code, followed by the card count.
+     *
+     * @return The packed hand.
+     */
+    public int pack() {
+        int packed = size << 18;
+        for (int i = 0; i < size; i++) {
+            packed |= cards[i] << (6 * i);
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the number of cards in a packed hand.
+     *
+     * @param packed A hand packed by {@link #pack()}.
+     * @return The number of cards.
+     */
+    public static int packedSize(int packed) {
+        return packed >>> 18;
+    }
+
+    /**
+     * Returns the code of a card in a packed hand.
+     *
+     * @param packed A hand packed by {@link #pack()}.
+     * @param index The position of the card.
+     * @return The card code.
+     */
+    public static int packedCard(int packed, int index) {
+        return (packed >>> (6 * index)) & 0x3F;
+    }
+
+    /**
+     * Creates Card views of the cards in the hand, for display or the list based API.
+     *
+     * @return A new list of the cards, in the order they were dealt.
+     */
+    public ArrayList<Card> toCards() {
+        ArrayList<Card> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Card.fromCode(cards[i]));
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return toCards() + " (" + total + ")";
+    }
+}
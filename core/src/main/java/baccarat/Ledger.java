@@ -0,0 +1,119 @@
+package baccarat;
+
+import java.util.Arrays;
+
+/**
+ * Append-only record of the money moving in and out of one session.
+ * Entries are packed three longs at a time into a single growing array - kind and table, round, amount - so a
+ * million entries are one array rather than a million objects. The running balance is kept as entries are added.
+ */
+public final class Ledger {
+    /** Money added to the session from outside the game. */
+    public static final int DEPOSIT = 0;
+    /** A stake taken for a bet. The amount is negative. */
+    public static final int BET = 1;
+    /** A settled bet: the stake returned plus any winnings. The amount is zero or positive. */
+    public static final int SETTLEMENT = 2;
+    /** A stake returned for a bet that was never played. */
+    public static final int REFUND = 3;
+
+    private static final int STRIDE = 3;
+
+    private long[] entries;
+    private int size;
+    private long balance;
+
+    /**
+     * Constructs an empty ledger.
+     *
+     * @param initialCapacity The number of entries the ledger can hold before it grows.
+     */
+    public Ledger(int initialCapacity) {
+        entries = new long[Math.max(1, initialCapacity) * STRIDE];
+    }
+
+    /**
+     * Appends an entry and updates the balance.
+     *
+     * @param kind The kind of entry: DEPOSIT, BET, SETTLEMENT or REFUND.
+     * @param tableId The table the entry belongs to, or 0 if none.
+     * @param round The round the entry belongs to, or 0 if it is not yet known.
+     * @param cents The signed amount in cents.
+     */
+    public void post(int kind, int tableId, long round, long cents) {
+        int offset = size * STRIDE;
+        if (offset == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[offset] = ((long) tableId << 8) | kind;
+        entries[offset + 1] = round;
+        entries[offset + 2] = cents;
+        size++;
+        balance += cents;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return The entry count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kind of an entry.
+     *
+     * @param index The position of the entry, oldest first.
+     * @return DEPOSIT, BET, SETTLEMENT or REFUND.
+     */
+    public int getKind(int index) {
+        return (int) (entry(index, 0) & 0xFF);
+    }
+
+    /**
+     * Returns the table of an entry.
+     *
+     * @param index The position of the entry, oldest first.
+     * @return The table id, or 0 if none.
+     */
+    public int getTableId(int index) {
+        return (int) (entry(index, 0) >>> 8);
+    }
+
+    /**
+     * Returns the round of an entry.
+     *
+     * @param index The position of the entry, oldest first.
+     * @return The round, or 0 if it was not known when the entry was posted.
+     */
+    public long getRound(int index) {
+        return entry(index, 1);
+    }
+
+    /**
+     * Returns the amount of an entry.
+     *
+     * @param index The position of the entry, oldest first.
+     * @return The signed amount in cents.
+     */
+    public long getAmount(int index) {
+        return entry(index, 2);
+    }
+
+    /**
+     * Returns the sum of every entry.
+     *
+     * @return The balance in cents.
+     */
+    public long getBalance() {
+        return balance;
+    }
+
+    private long entry(int index, int field) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Ledger has " + size + " entries, no entry " + index);
+        }
+        return entries[index * STRIDE + field];
+    }
+}
@@ -0,0 +1,136 @@
+package baccarat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the odds of the next round from the cards left in a shoe, cheaply enough to run on every table after
+ * every round.
+ *
+ * The exact calculator runs once per shoe size, for the full shoe and for the full shoe less one card of each
+ * point value; the difference is the effect of removing that card. An estimate starts from the full shoe odds and
+ * adds the effect of how far each point value is over or under its share of the cards left, scaled up as the shoe
+ * shrinks, since a card moves the odds of a short shoe more. That is ten multiply-adds per outcome instead of an
+ * enumeration. This is the linear model card counters use: it tracks the exact odds closely through most of a shoe
+ * and drifts in the last few rounds, where {@link #exact(int[])} gives the enumerated odds.
+ *
+ * The effects are taken per settlement key, so a removed card moves e.g. the chance of a banker win on 6 separately
+ * from other banker wins, and each key is priced with the rule set's payouts. The expected values are linear in the
+ * key probabilities, so pricing the effects once when the estimator is built gives the same estimate as pricing the
+ * estimated key probabilities every time, and variants such as commission free or EZ Baccarat are estimated at their
+ * own payouts.
+ */
+public final class LiveOddsEstimator {
+    private static final Map<RuleSet, LiveOddsEstimator> BY_RULES = new ConcurrentHashMap<>();
+
+    private final RuleSet rules;
+
+    private final int[] fullCounts = new int[10]; // Point counts of the full shoe
+    private final int fullSize;
+    // Player, banker and draw probabilities, then the player, banker and draw bet EVs, of the full shoe
+    private final double[] base = new double[6];
+    private final double[][] effect = new double[10][6]; // Change in each of them per card of a point value removed
+
+    private LiveOddsEstimator(RuleSet rules) {
+        this.rules = rules;
+        int numDecks = rules.getNumDecks();
+        fullCounts[0] = 16 * numDecks; // 10, Jack, Queen and King of each suite
+        for (int point = 1; point <= 9; point++) {
+            fullCounts[point] = 4 * numDecks;
+        }
+        fullSize = 52 * numDecks;
+        double[] full = BaccaratOddsCalculator.settlementProbabilities(fullCounts, rules);
+        price(full, base);
+        int[] counts = fullCounts.clone();
+        for (int point = 0; point < 10; point++) {
+            counts[point]--;
+            double[] removed = BaccaratOddsCalculator.settlementProbabilities(counts, rules);
+            counts[point]++;
+            for (int key = 0; key < RuleSet.SETTLEMENT_KEYS; key++) {
+                removed[key] -= full[key]; // Effect of the removal on each settlement key
+            }
+            price(removed, effect[point]);
+        }
+    }
+
+    // Sums settlement key probabilities, or changes to them, into the three outcomes and the three bets' EVs
+    private void price(double[] settlements, double[] terms) {
+        for (int key = 0; key < RuleSet.SETTLEMENT_KEYS; key++) {
+            if (settlements[key] == 0) {
+                continue; // Not a key a round can settle on
+            }
+            terms[key & 3] += settlements[key]; // The winner is the low bits of the key
+            for (int type = BetBook.PLAYER; type <= BetBook.DRAW; type++) {
+                terms[3 + type] += settlements[key] * rules.netUnits(type, key);
+            }
+        }
+    }
+
+    /**
+     * Returns the estimator for a shoe size, building it on first use; building runs the exact calculator eleven times.
+     *
+     * @param numDecks The number of decks in a full shoe.
+     * @return The shared estimator.
+     */
+    public static LiveOddsEstimator forDecks(int numDecks) {
+        return forRules(RuleSet.STANDARD.withDecks(numDecks));
+    }
+
+    /**
+     * Returns the estimator for a rule set, building it on first use; building runs the exact calculator eleven times.
+     *
+     * @param rules The rules, including the number of decks in a full shoe.
+     * @return The shared estimator.
+     */
+    public static LiveOddsEstimator forRules(RuleSet rules) {
+        return BY_RULES.computeIfAbsent(rules, LiveOddsEstimator::new);
+    }
+
+    /**
+     * Estimates the odds of the next round from the cards left of each point value.
+     *
+     * @param pointCounts Ten counts, indexed by point value 0 through 9, at most those of a full shoe.
+     * @return The estimated odds.
+     */
+    public BaccaratOdds estimate(int[] pointCounts) {
+        int remaining = 0;
+        for (int count : pointCounts) {
+            remaining += count;
+        }
+        if (remaining < 2) {
+            return exact(pointCounts); // Nothing left to scale against
+        }
+        double share = (double) remaining / fullSize;
+        double scale = (fullSize - 1.0) / (remaining - 1);
+        double[] terms = base.clone();
+        for (int point = 0; point < 10; point++) {
+            double removed = (fullCounts[point] * share - pointCounts[point]) * scale; // Cards short of its share
+            for (int term = 0; term < terms.length; term++) {
+                terms[term] += removed * effect[point][term];
+            }
+        }
+        return new BaccaratOdds(terms[0], terms[1], terms[2], terms[3], terms[4], terms[5]);
+    }
+
+    /**
+     * Estimates the odds of the next round dealt by a dealer, from the composition its shoe keeps.
+     *
+     * @param dealer The dealer.
+     * @return The estimated odds.
+     */
+    public BaccaratOdds estimate(BaccaratDealer dealer) {
+        int[] pointCounts = new int[10];
+        dealer.getPointCounts(pointCounts);
+        return estimate(pointCounts);
+    }
+
+    /**
+     * Computes the exact odds of the next round by enumeration, for when the estimate is not close enough.
+     *
+     * @param pointCounts Ten counts, indexed by point value 0 through 9.
+     * @return The exact odds.
+     */
+    public BaccaratOdds exact(int[] pointCounts) {
+        return BaccaratOddsCalculator.calculate(pointCounts, rules);
+    }
+}
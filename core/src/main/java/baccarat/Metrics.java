@@ -0,0 +1,168 @@
+package baccarat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the metrics of every table, published through JMX and as plain text for {@link MetricsServer}.
+ *
+ * Instrumentation is switched on with the system property {@code baccarat.metrics=true}. The flag is read once into
+ * a static final field, so with it off the JIT removes every {@code if (Metrics.ENABLED)} block from the code that
+ * plays rounds, and metrics cost nothing; with it on, recording is a few lock-free increments per round.
+ */
+public final class Metrics {
+    /** Whether rounds, shuffles and settlements are measured. */
+    public static final boolean ENABLED = Boolean.getBoolean("baccarat.metrics");
+
+    /** Table id used for the single table of the desktop game. */
+    public static final int LOCAL_TABLE = 0;
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private static final Map<Integer, TableMetrics> TABLES = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the metrics of a table, creating and registering them with JMX on first use.
+     * TableManager hands out table ids that are unique across managers, so each table has metrics of its own.
+     *
+     * @param tableId The table id.
+     * @return The table's metrics.
+     */
+    public static TableMetrics forTable(int tableId) {
+        return TABLES.computeIfAbsent(tableId, id -> {
+            TableMetrics metrics = new TableMetrics(id);
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = objectName(id);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(metrics, name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not register metrics of table " + id, e);
+            }
+            return metrics;
+        });
+    }
+
+    /**
+     * Drops the metrics of a closed table and unregisters them from JMX.
+     *
+     * @param tableId The table id.
+     */
+    public static void remove(int tableId) {
+        if (TABLES.remove(tableId) != null) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                if (server.isRegistered(objectName(tableId))) {
+                    server.unregisterMBean(objectName(tableId));
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not unregister metrics of table " + tableId, e);
+            }
+        }
+    }
+
+    /**
+     * Returns a shuffle that records its time in a table's metrics, or the shuffle itself when metrics are off.
+     *
+     * @param strategy The shuffle to time.
+     * @param tableId The table the shuffles are for.
+     * @return The timed strategy.
+     */
+    public static ShuffleStrategy timed(ShuffleStrategy strategy, int tableId) {
+        if (!ENABLED) {
+            return strategy;
+        }
+        TableMetrics metrics = forTable(tableId);
+        return (cards, from, to, random) -> {
+            long start = System.nanoTime();
+            strategy.shuffle(cards, from, to, random);
+            metrics.recordShuffle(System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Writes the metrics of every table in the Prometheus text format, one line per table and value, with times in
+     * seconds.
+     *
+     * @param out The text to append to.
+     */
+    public static void writeText(StringBuilder out) {
+        Map<Integer, TableMetrics> tables = new TreeMap<>(TABLES);
+        counter(out, tables, "baccarat_rounds_total", "Rounds played.", TableMetrics::getRounds);
+        gauge(out, tables, "baccarat_rounds_per_second", "Rounds played per second.", TableMetrics::getRoundsPerSecond);
+        counter(out, tables, "baccarat_shoe_changes_total", "New shoes started.", TableMetrics::getShoeChanges);
+        counter(out, tables, "baccarat_bets_settled_total", "Bets settled.", TableMetrics::getBetsSettled);
+        summary(out, tables, "baccarat_round_latency_seconds", "Time to resolve a round.",
+                TableMetrics::getRoundLatency, NANOS_PER_SECOND);
+        summary(out, tables, "baccarat_shuffle_seconds", "Time to shuffle a shoe.",
+                TableMetrics::getShuffleTime, NANOS_PER_SECOND);
+        summary(out, tables, "baccarat_settlement_seconds", "Time to settle the bets on a round.",
+                TableMetrics::getSettlementLatency, NANOS_PER_SECOND);
+        summary(out, tables, "baccarat_settlement_batch_size", "Bets settled per round.",
+                TableMetrics::getSettlementBatchSize, 1);
+    }
+
+    private static void counter(StringBuilder out, Map<Integer, TableMetrics> tables, String name, String help,
+                                ToDoubleFunction<TableMetrics> value) {
+        header(out, name, help, "counter");
+        for (TableMetrics metrics : tables.values()) {
+            line(out, name, metrics.getTableId(), null, value.applyAsDouble(metrics));
+        }
+    }
+
+    private static void gauge(StringBuilder out, Map<Integer, TableMetrics> tables, String name, String help,
+                              ToDoubleFunction<TableMetrics> value) {
+        header(out, name, help, "gauge");
+        for (TableMetrics metrics : tables.values()) {
+            line(out, name, metrics.getTableId(), null, value.applyAsDouble(metrics));
+        }
+    }
+
+    private static void summary(StringBuilder out, Map<Integer, TableMetrics> tables, String name, String help,
+                                Function<TableMetrics, LogHistogram> histogramOf, double unit) {
+        header(out, name, help, "summary");
+        for (TableMetrics metrics : tables.values()) {
+            LogHistogram histogram = histogramOf.apply(metrics);
+            for (double quantile : QUANTILES) {
+                line(out, name, metrics.getTableId(), quantile, histogram.getValueAtPercentile(quantile * 100) / unit);
+            }
+            line(out, name + "_sum", metrics.getTableId(), null, histogram.getSum() / unit);
+            line(out, name + "_count", metrics.getTableId(), null, histogram.getCount());
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void line(StringBuilder out, String name, int tableId, Double quantile, double value) {
+        out.append(name).append("{table=\"").append(tableId).append('"');
+        if (quantile != null) {
+            out.append(",quantile=\"").append(quantile).append('"');
+        }
+        out.append("} ");
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value); // Counts print without a fraction
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static ObjectName objectName(int tableId) throws JMException {
+        return new ObjectName("baccarat:type=Table,id=" + tableId);
+    }
+}
@@ -0,0 +1,85 @@
+package baccarat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local HTTP server that serves {@link Metrics} as plain text at {@code /metrics}, for a Prometheus style scraper.
+ * It listens on the loopback address only and answers on a single thread of its own, so a scrape never runs on a
+ * table's thread.
+ */
+public final class MetricsServer implements AutoCloseable {
+    /** Path the metrics are served at. */
+    public static final String PATH = "/metrics";
+
+    private final HttpServer server;
+
+    private MetricsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts serving the metrics.
+     *
+     * @param port The port on the loopback address, or 0 for any free port.
+     * @return The running server.
+     * @throws IOException If the port cannot be bound.
+     */
+    public static MetricsServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, MetricsServer::scrape);
+        server.start();
+        return new MetricsServer(server);
+    }
+
+    /**
+     * Starts serving the metrics if metrics are on and the system property {@code baccarat.metrics.port} is set.
+     *
+     * @return The running server, or null if none was asked for.
+     * @throws IOException If the port cannot be bound.
+     */
+    public static MetricsServer startIfConfigured() throws IOException {
+        String port = System.getProperty("baccarat.metrics.port");
+        return Metrics.ENABLED && port != null ? start(Integer.parseInt(port.trim())) : null;
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Answers one scrape with the current metrics
+    private static void scrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            Metrics.writeText(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Stops the server straight away.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
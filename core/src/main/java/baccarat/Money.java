@@ -0,0 +1,61 @@
+package baccarat;
+
+import java.math.BigDecimal;
+
+/**
+ * Exact money arithmetic on amounts held as a long number of cents.
+ *
+ * Rounding policy: the only fractional amount the game produces is the banker commission, which is rounded half up
+ * to the nearest cent (in the house's favour on an exact half cent). Everything else is whole cents.
+ */
+public final class Money {
+    /** Cents in one unit of currency. */
+    public static final int CENTS_PER_UNIT = 100;
+
+    private static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    /**
+     * Parses an amount like "12", "12.5" or "12.34" into cents.
+     *
+     * @param text The amount, with at most two decimal places.
+     * @return The amount in cents.
+     * @throws NumberFormatException If the text is not a number, has more than two decimal places, or is too large.
+     */
+    public static long parse(String text) {
+        BigDecimal amount = new BigDecimal(text.trim());
+        if (amount.stripTrailingZeros().scale() > 2) {
+            throw new NumberFormatException("More than two decimal places: " + text);
+        }
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    /**
+     * Formats cents as an amount with two decimal places, like "12.34" or "-0.50".
+     *
+     * @param cents The amount in cents.
+     * @return The formatted amount.
+     */
+    public static String format(long cents) {
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        long remainder = Math.abs(cents % CENTS_PER_UNIT);
+        return (cents < 0 ? "-" : "") + units + (remainder < 10 ? ".0" : ".") + remainder;
+    }
+
+    /**
+     * Calculates a commission, rounded half up to the nearest cent.
+     *
+     * @param cents The amount the commission is taken from; must not be negative.
+     * @param basisPoints The commission rate in hundredths of a percent (500 is 5%).
+     * @return The commission in cents.
+     */
+    public static long commission(long cents, int basisPoints) {
+        return (cents * basisPoints + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+}
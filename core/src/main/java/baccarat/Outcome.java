@@ -0,0 +1,52 @@
+package baccarat;
+
+/**
+ * Who won a round of Baccarat.
+ * Each outcome has the same code as the bet on it in {@link BetBook}, so settling and counting rounds can index
+ * arrays by {@link #getCode()} instead of comparing names.
+ */
+public enum Outcome {
+    /** The player's hand has the higher total. */
+    PLAYER,
+    /** The banker's hand has the higher total. */
+    BANKER,
+    /** Both hands have the same total. */
+    DRAW;
+
+    private static final Outcome[] BY_CODE = values();
+
+    /**
+     * Returns the code of this outcome, used by {@link RoundOutcome}, {@link BetBook} and the round journal.
+     *
+     * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     */
+    public int getCode() {
+        return ordinal();
+    }
+
+    /**
+     * Converts a code back to its outcome.
+     *
+     * @param code BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     * @return The outcome.
+     * @throws IllegalArgumentException If the code is not an outcome.
+     */
+    public static Outcome fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown outcome: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Determines the outcome from the totals of the two hands.
+     *
+     * @param playerTotal The player's total, 0 through 9.
+     * @param bankerTotal The banker's total, 0 through 9.
+     * @return The outcome.
+     */
+    public static Outcome of(int playerTotal, int bankerTotal) {
+        // The game is won by the party with the higher hand total.
+        return playerTotal > bankerTotal ? PLAYER : bankerTotal > playerTotal ? BANKER : DRAW;
+    }
+}
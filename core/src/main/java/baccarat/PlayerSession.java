@@ -0,0 +1,91 @@
+package baccarat;
+
+import java.util.function.Consumer;
+
+/**
+ * A player's session with its own bankroll.
+ * Bets are taken from the bankroll when they are placed and winnings are paid back when the round settles,
+ * possibly from several tables at once, so every change to the bankroll holds this session's lock only.
+ * Every change is posted to the session's ledger, and the bankroll is the ledger's balance.
+ */
+public final class PlayerSession {
+    private final long id;
+    private final Ledger ledger = new Ledger(64);
+
+    /**
+     * Constructs a session.
+     *
+     * @param id The session id.
+     * @param bankrollCents The starting bankroll, in cents.
+     */
+    public PlayerSession(long id, long bankrollCents) {
+        this.id = id;
+        ledger.post(Ledger.DEPOSIT, 0, 0, bankrollCents);
+    }
+
+    /**
+     * Returns the session id.
+     *
+     * @return The id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the current bankroll, not counting bets waiting to be settled.
+     *
+     * @return The bankroll in cents.
+     */
+    public synchronized long getBankroll() {
+        return ledger.getBalance();
+    }
+
+    /**
+     * Takes the stake of a bet from the bankroll if it is covered.
+     *
+     * @param tableId The table the bet is placed at.
+     * @param cents The stake.
+     * @return True if the stake was taken; false if the bankroll is too small.
+     */
+    public synchronized boolean placeBet(int tableId, long cents) {
+        if (cents > ledger.getBalance()) {
+            return false;
+        }
+        ledger.post(Ledger.BET, tableId, 0, -cents);
+        return true;
+    }
+
+    /**
+     * Pays a settled bet back into the bankroll: the stake plus the payout, which is negative for a lost bet.
+     *
+     * @param tableId The table the bet was placed at.
+     * @param round The round the bet was settled on.
+     * @param stakeCents The stake.
+     * @param payoutCents The net result of the bet.
+     * @return The bankroll after the settlement, in cents.
+     */
+    public synchronized long settle(int tableId, long round, long stakeCents, long payoutCents) {
+        ledger.post(Ledger.SETTLEMENT, tableId, round, stakeCents + payoutCents);
+        return ledger.getBalance();
+    }
+
+    /**
+     * Returns the stake of a bet that was never played.
+     *
+     * @param tableId The table the bet was placed at.
+     * @param stakeCents The stake.
+     */
+    public synchronized void refund(int tableId, long stakeCents) {
+        ledger.post(Ledger.REFUND, tableId, 0, stakeCents);
+    }
+
+    /**
+     * Runs an action with the ledger while holding the session's lock, so it sees a consistent set of entries.
+     *
+     * @param reader The action.
+     */
+    public synchronized void readLedger(Consumer<Ledger> reader) {
+        reader.accept(ledger);
+    }
+}
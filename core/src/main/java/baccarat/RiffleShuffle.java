@@ -0,0 +1,47 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Riffle shuffle following the Gilbert-Shannon-Reeds model of a dealer's riffle: the cards are cut near the middle
+ * (binomially), and each card drops from either half with probability proportional to that half's size.
+ * A handful of riffles leaves a large shoe far from uniform, which is what this is for - modeling real tables.
+ */
+public final class RiffleShuffle implements ShuffleStrategy {
+    private final int riffles;
+
+    /**
+     * Constructs a riffle shuffle.
+     *
+     * @param riffles The number of riffles performed each time the shoe is shuffled.
+     */
+    public RiffleShuffle(int riffles) {
+        if (riffles < 1) {
+            throw new IllegalArgumentException("At least one riffle is needed, got " + riffles);
+        }
+        this.riffles = riffles;
+    }
+
+    @Override
+    public void shuffle(byte[] cards, int from, int to, RandomGenerator random) {
+        byte[] halves = new byte[to - from];
+        for (int r = 0; r < riffles; r++) {
+            System.arraycopy(cards, from, halves, 0, halves.length);
+            int cut = 0; // Binomial(n, 1/2) cut point
+            for (int i = 0; i < halves.length; i++) {
+                cut += random.nextInt(2);
+            }
+            int left = 0;
+            int right = cut;
+            for (int i = from; i < to; i++) {
+                int leftSize = cut - left;
+                int rightSize = halves.length - right;
+                if (random.nextInt(leftSize + rightSize) < leftSize) {
+                    cards[i] = halves[left++];
+                } else {
+                    cards[i] = halves[right++];
+                }
+            }
+        }
+    }
+}
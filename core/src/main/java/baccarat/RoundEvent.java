@@ -0,0 +1,140 @@
+package baccarat;
+
+/**
+ * One step of a resolved round, as published by {@link RoundEventPublisher}.
+ * A round produces, in order, CARDS_DEALT, PLAYER_DRAW and BANKER_DRAW when those sides drew, RESULT, and
+ * SETTLEMENT once its bets are settled. Every event of a round carries the whole result, so a subscriber that only
+ * wants the outcome can ignore everything but RESULT, and one that reveals the round step by step knows from each
+ * event how many cards of each hand to show.
+ */
+public final class RoundEvent {
+    /** The steps of a round. */
+    public enum Type {
+        /** Two cards were dealt to each side. */
+        CARDS_DEALT,
+        /** The player drew a third card. */
+        PLAYER_DRAW,
+        /** The banker drew a third card. */
+        BANKER_DRAW,
+        /** The winner is known. */
+        RESULT,
+        /** The bets on the round are settled. */
+        SETTLEMENT
+    }
+
+    private final Type type;
+    private final int tableId;
+    private final long shoeNumber;
+    private final int roundNumber;
+    private final RoundResult round;
+    private final int betCount;
+    private final long wageredCents;
+    private final long paidCents;
+
+    RoundEvent(Type type, int tableId, long shoeNumber, int roundNumber, RoundResult round,
+               int betCount, long wageredCents, long paidCents) {
+        this.type = type;
+        this.tableId = tableId;
+        this.shoeNumber = shoeNumber;
+        this.roundNumber = roundNumber;
+        this.round = round;
+        this.betCount = betCount;
+        this.wageredCents = wageredCents;
+        this.paidCents = paidCents;
+    }
+
+    /**
+     * Returns the step of the round this event reports.
+     *
+     * @return The event type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the table the round was played at.
+     *
+     * @return The table id.
+     */
+    public int getTableId() {
+        return tableId;
+    }
+
+    /**
+     * Returns the shoe the round was dealt from.
+     *
+     * @return The shoe number, counting from 1.
+     */
+    public long getShoeNumber() {
+        return shoeNumber;
+    }
+
+    /**
+     * Returns the number of the round within its shoe.
+     *
+     * @return The round number, counting from 1.
+     */
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    /**
+     * Returns the result of the round the event belongs to.
+     *
+     * @return The whole result, including cards not revealed yet at this step.
+     */
+    public RoundResult getRound() {
+        return round;
+    }
+
+    /**
+     * Returns the number of player cards dealt by the end of this step.
+     *
+     * @return 2 or 3.
+     */
+    public int getPlayerCardsShown() {
+        return type == Type.CARDS_DEALT ? 2 : type == Type.PLAYER_DRAW ? 3 : Hand.packedSize(round.getPlayerCards());
+    }
+
+    /**
+     * Returns the number of banker cards dealt by the end of this step.
+     *
+     * @return 2 or 3.
+     */
+    public int getBankerCardsShown() {
+        return type == Type.CARDS_DEALT || type == Type.PLAYER_DRAW ? 2 : Hand.packedSize(round.getBankerCards());
+    }
+
+    /**
+     * Returns the number of bets settled; only set on SETTLEMENT events.
+     *
+     * @return The bet count.
+     */
+    public int getBetCount() {
+        return betCount;
+    }
+
+    /**
+     * Returns the total wagered on the round; only set on SETTLEMENT events.
+     *
+     * @return The amount in cents.
+     */
+    public long getWageredCents() {
+        return wageredCents;
+    }
+
+    /**
+     * Returns the net result of every bet on the round together; only set on SETTLEMENT events.
+     *
+     * @return The cents won by the players (positive) or lost (negative).
+     */
+    public long getPaidCents() {
+        return paidCents;
+    }
+
+    @Override
+    public String toString() {
+        return "Table " + tableId + " shoe " + shoeNumber + " round " + roundNumber + ": " + type;
+    }
+}
@@ -0,0 +1,139 @@
+package baccarat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the events of resolved rounds to any number of subscribers without ever blocking the round.
+ *
+ * Each subscriber gets a bounded buffer and is fed on the publisher's executor. Events are offered rather than
+ * submitted: when a subscriber's buffer is full the event is dropped for that subscriber and counted, so a slow
+ * consumer such as an animating UI falls behind on its own instead of holding up the table. When nobody is
+ * subscribed, publishing a round does not even create its events.
+ */
+public final class RoundEventPublisher implements AutoCloseable {
+    private final SubmissionPublisher<RoundEvent> publisher;
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructs a publisher that feeds subscribers on the common fork-join pool.
+     *
+     * @param bufferCapacity The most events buffered per subscriber before events are dropped for it.
+     */
+    public RoundEventPublisher(int bufferCapacity) {
+        this(ForkJoinPool.commonPool(), bufferCapacity);
+    }
+
+    /**
+     * Constructs a publisher that feeds subscribers with the given executor.
+     *
+     * @param executor The executor subscribers are called on.
+     * @param bufferCapacity The most events buffered per subscriber before events are dropped for it.
+     */
+    public RoundEventPublisher(Executor executor, int bufferCapacity) {
+        publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    /**
+     * Subscribes to every event published from now on.
+     *
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(Flow.Subscriber<? super RoundEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Subscribes a function to every event published from now on.
+     *
+     * @param consumer Called with each event, one at a time.
+     * @return A future completed when the publisher is closed, or failed if the consumer throws.
+     */
+    public CompletableFuture<Void> subscribe(Consumer<? super RoundEvent> consumer) {
+        return publisher.consume(consumer);
+    }
+
+    /**
+     * Publishes the dealing steps and the result of a round.
+     *
+     * @param tableId The table the round was played at.
+     * @param shoeNumber The shoe it was dealt from.
+     * @param roundNumber Its number within the shoe.
+     * @param round The result.
+     */
+    public void publishRound(int tableId, long shoeNumber, int roundNumber, RoundResult round) {
+        if (!publisher.hasSubscribers()) {
+            return;
+        }
+        offer(new RoundEvent(RoundEvent.Type.CARDS_DEALT, tableId, shoeNumber, roundNumber, round, 0, 0, 0));
+        if (round.playerDrew()) {
+            offer(new RoundEvent(RoundEvent.Type.PLAYER_DRAW, tableId, shoeNumber, roundNumber, round, 0, 0, 0));
+        }
+        if (round.bankerDrew()) {
+            offer(new RoundEvent(RoundEvent.Type.BANKER_DRAW, tableId, shoeNumber, roundNumber, round, 0, 0, 0));
+        }
+        offer(new RoundEvent(RoundEvent.Type.RESULT, tableId, shoeNumber, roundNumber, round, 0, 0, 0));
+    }
+
+    /**
+     * Publishes the settlement of the bets on a round.
+     *
+     * @param tableId The table the round was played at.
+     * @param shoeNumber The shoe it was dealt from.
+     * @param roundNumber Its number within the shoe.
+     * @param round The result.
+     * @param betCount The number of bets settled.
+     * @param wageredCents The total wagered.
+     * @param paidCents The net result of every bet together.
+     */
+    public void publishSettlement(int tableId, long shoeNumber, int roundNumber, RoundResult round,
+                                  int betCount, long wageredCents, long paidCents) {
+        if (publisher.hasSubscribers()) {
+            offer(new RoundEvent(RoundEvent.Type.SETTLEMENT, tableId, shoeNumber, roundNumber, round,
+                    betCount, wageredCents, paidCents));
+        }
+    }
+
+    // Hands an event to every subscriber with room for it, counting the ones without
+    private void offer(RoundEvent event) {
+        try {
+            publisher.offer(event, (subscriber, dropped) -> {
+                this.dropped.increment();
+                return false; // Never retry, so the round does not wait
+            });
+        } catch (IllegalStateException e) {
+            // Closed while the round was being played; its events have nobody left to go to
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because a subscriber's buffer was full, counted once per subscriber.
+     *
+     * @return The count.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of subscribers.
+     *
+     * @return The count.
+     */
+    public int getSubscriberCount() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /**
+     * Completes every subscriber once the events already buffered for it are delivered.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
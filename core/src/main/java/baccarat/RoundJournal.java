@@ -0,0 +1,381 @@
+package baccarat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only binary journal of played rounds and the bets settled on them, written through memory-mapped
+ * segments of the file.
+ *
+ * Appends take no lock, so every table of a manager can share one journal: a writer reserves the records it
+ * needs by advancing the write position atomically, copies the round into its own records, and publishes the
+ * round last by stamping it with the journal's epoch. A background thread makes the journal durable with a group
+ * commit at a fixed interval: it walks the published rounds in file order, stops at the first one still being
+ * written, forces everything before it and then records the new committed counts in the file header. A reader
+ * trusts only the committed counts, so a crash loses at most the rounds of the last interval and never leaves a
+ * torn record. The epoch is bumped every time the file is opened, so records left over from a crashed run are
+ * never mistaken for published ones.
+ *
+ * File layout: a 64 byte header (magic, version, record size, epoch, committed record count, committed round
+ * count) followed by fixed size records. Each round record is followed by one record per bet settled on it;
+ * see {@link RoundJournalReader} for their fields.
+ *
+ * Rounds are of different lengths, so a sidecar index file (see {@link #indexPath}) holds the record of every
+ * {@link #INDEX_INTERVAL}th round as a long, which lets a reader seek close to any round. Commits add its entries
+ * and force them before the header, so every committed round is covered; opening the journal drops entries past
+ * the committed rounds and rebuilds any that are missing.
+ */
+public final class RoundJournal implements AutoCloseable {
+    static final int MAGIC = 0x42414A31; // "BAJ1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final int EPOCH_OFFSET = 12; // Header offset of the epoch of the last open
+    static final int COUNT_OFFSET = 16; // Header offset of the committed record count
+    static final int ROUNDS_OFFSET = 24; // Header offset of the committed round count
+
+    // Round record field offsets
+    static final int SHOE = 0;
+    static final int ROUND = 8;
+    static final int PLAYER_COUNT = 12;
+    static final int BANKER_COUNT = 13;
+    static final int PLAYER_CARDS = 14;
+    static final int BANKER_CARDS = 17;
+    static final int FLAGS = 20;
+    static final int WINNER = 21;
+    static final int TABLE = 24;
+    static final int BETS = 28;
+    static final int WAGERED = 32;
+    static final int PAID = 40;
+    static final int EPOCH = 48; // Written last; the round is published once it holds the current epoch
+
+    // Bet record field offsets
+    static final int SESSION = 0;
+    static final int BET_TYPE = 8;
+    static final int AMOUNT = 16;
+    static final int PAYOUT = 24;
+
+    static final int FLAG_NATURAL = 1;
+    static final int FLAG_PLAYER_DREW = 2;
+    static final int FLAG_BANKER_DREW = 4;
+
+    static final int INDEX_INTERVAL = 1024; // Rounds between entries of the index
+
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT; // 64 MB mapped per segment
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    // Publishes the epoch of a round after its other fields, and reads it before them
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel channel;
+    private final FileChannel index; // Record of every INDEX_INTERVAL-th round
+    private final ByteBuffer indexEntry = ByteBuffer.allocate(Long.BYTES); // Used under the commit lock
+    private final MappedByteBuffer header;
+    private final ScheduledExecutorService committer;
+    private final Object commitLock = new Object(); // Orders commits; appends never take it
+    private final int epoch;
+    private final long capacity; // Records the file may hold
+
+    private final AtomicReferenceArray<MappedByteBuffer> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private final AtomicLong reserved = new AtomicLong(); // Records handed out to writers, finished or not
+    private final AtomicLong appended = new AtomicLong(); // Rounds fully written, committed or not
+    private volatile long committed; // Records made durable
+    private volatile long committedRounds; // Rounds made durable
+
+    private RoundJournal(FileChannel channel, FileChannel index, long commitIntervalMillis, long capacity) throws IOException {
+        this.channel = channel;
+        this.index = index;
+        this.capacity = capacity;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        int lastEpoch = 0;
+        if (header.getInt(0) == MAGIC) {
+            if (header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+                throw new IOException("Unsupported journal version " + header.getInt(4));
+            }
+            lastEpoch = header.getInt(EPOCH_OFFSET);
+            committed = header.getLong(COUNT_OFFSET); // Anything after the committed count is discarded
+            committedRounds = header.getLong(ROUNDS_OFFSET);
+        } else {
+            header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, RECORD_SIZE)
+                    .putLong(COUNT_OFFSET, 0).putLong(ROUNDS_OFFSET, 0);
+        }
+        epoch = lastEpoch + 1;
+        header.putInt(EPOCH_OFFSET, epoch);
+        header.force();
+        reserved.set(committed);
+        appended.set(committedRounds);
+        syncIndex();
+        committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "round-journal-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleWithFixedDelay(this::commit, commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a journal for appending, creating the file if needed. Rounds already committed to an existing file
+     * are kept and new rounds follow them.
+     *
+     * @param path The journal file.
+     * @param commitIntervalMillis The time between group commits.
+     * @return The open journal.
+     * @throws IOException If the file cannot be opened or is not a journal.
+     */
+    public static RoundJournal open(Path path, long commitIntervalMillis) throws IOException {
+        return open(path, commitIntervalMillis, (long) MAX_SEGMENTS << SEGMENT_SHIFT);
+    }
+
+    // Opens a journal that holds at most the given number of records, so tests can fill one
+    static RoundJournal open(Path path, long commitIntervalMillis, long capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = null;
+        try {
+            index = FileChannel.open(indexPath(path), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new RoundJournal(channel, index, commitIntervalMillis, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the path of the index kept next to a journal file.
+     *
+     * @param path The journal file.
+     * @return The index file.
+     */
+    public static Path indexPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".index");
+    }
+
+    /**
+     * Appends one round and one record per bet in its book. Safe to call from many threads at once; returns as
+     * soon as the records are in the mapped segments.
+     * The records are only reserved once they are known to fit and their segments are mapped, so an append that
+     * fails leaves no hole for the commits to stop at.
+     *
+     * @param tableId The table the round was played at.
+     * @param shoeId The shoe the round was dealt from.
+     * @param round The number of the round within its shoe.
+     * @param result The result of the round.
+     * @param book The bets settled on the round, or null if there were none.
+     * @throws IllegalStateException If the journal is full.
+     * @throws UncheckedIOException If a segment of the file cannot be mapped.
+     */
+    public void append(int tableId, long shoeId, int round, RoundResult result, BetBook book) {
+        int bets = book == null ? 0 : book.size();
+        long first;
+        do {
+            first = reserved.get();
+            if (first + 1 + bets > capacity) {
+                throw new IllegalStateException("Journal is full");
+            }
+            segment(first);
+            segment(first + bets); // The bets may run into the next segment
+        } while (!reserved.compareAndSet(first, first + 1 + bets));
+
+        long wagered = 0;
+        long paid = 0;
+        for (int i = 0; i < bets; i++) {
+            MappedByteBuffer segment = segment(first + 1 + i);
+            int offset = offset(first + 1 + i);
+            segment.putLong(offset + SESSION, book.getSessionId(i));
+            segment.put(offset + BET_TYPE, (byte) book.getType(i));
+            segment.putLong(offset + AMOUNT, book.getAmount(i));
+            segment.putLong(offset + PAYOUT, book.getPayout(i));
+            wagered += book.getAmount(i);
+            paid += book.getPayout(i);
+        }
+
+        MappedByteBuffer segment = segment(first);
+        int offset = offset(first);
+        int playerCards = result.getPlayerCards();
+        int bankerCards = result.getBankerCards();
+        segment.putLong(offset + SHOE, shoeId);
+        segment.putInt(offset + ROUND, round);
+        segment.put(offset + PLAYER_COUNT, (byte) Hand.packedSize(playerCards));
+        segment.put(offset + BANKER_COUNT, (byte) Hand.packedSize(bankerCards));
+        for (int i = 0; i < Hand.CAPACITY; i++) {
+            segment.put(offset + PLAYER_CARDS + i, (byte) (i < Hand.packedSize(playerCards) ? Hand.packedCard(playerCards, i) : -1));
+            segment.put(offset + BANKER_CARDS + i, (byte) (i < Hand.packedSize(bankerCards) ? Hand.packedCard(bankerCards, i) : -1));
+        }
+        int flags = (result.isNatural() ? FLAG_NATURAL : 0)
+                | (result.playerDrew() ? FLAG_PLAYER_DREW : 0)
+                | (result.bankerDrew() ? FLAG_BANKER_DREW : 0);
+        segment.put(offset + FLAGS, (byte) flags);
+        segment.put(offset + WINNER, (byte) result.getWinner().getCode());
+        segment.putInt(offset + TABLE, tableId);
+        segment.putInt(offset + BETS, bets);
+        segment.putLong(offset + WAGERED, wagered);
+        segment.putLong(offset + PAID, paid);
+        INT.setRelease(segment, offset + EPOCH, epoch);
+        appended.incrementAndGet();
+    }
+
+    /**
+     * Makes every round published so far durable, up to the first round still being written. Runs on the
+     * background thread at the commit interval, and may also be called directly, e.g. before handing the file
+     * to a reader.
+     */
+    public void commit() {
+        synchronized (commitLock) {
+            long from = committed;
+            long to = from;
+            long rounds = committedRounds;
+            long end = reserved.get();
+            boolean indexed = false;
+            while (to < end) {
+                MappedByteBuffer segment = segment(to);
+                int offset = offset(to);
+                if ((int) INT.getAcquire(segment, offset + EPOCH) != epoch) {
+                    break; // Still being written; commit up to it and pick it up next time
+                }
+                if (rounds % INDEX_INTERVAL == 0) {
+                    writeIndex(rounds / INDEX_INTERVAL, to);
+                    indexed = true;
+                }
+                to += 1 + segment.getInt(offset + BETS);
+                rounds++;
+            }
+            if (to == from) {
+                return;
+            }
+            for (long record = from; record < to; ) {
+                long segmentEnd = Math.min(to, ((record >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT);
+                segment(record).force(offset(record), (int) (segmentEnd - record) * RECORD_SIZE);
+                record = segmentEnd;
+            }
+            if (indexed) {
+                try {
+                    index.force(false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot force journal index", e);
+                }
+            }
+            header.putLong(COUNT_OFFSET, to).putLong(ROUNDS_OFFSET, rounds);
+            header.force();
+            committedRounds = rounds;
+            committed = to;
+            // Segments wholly before the committed records are finished with; let their mappings go
+            for (int index = (int) (from >>> SEGMENT_SHIFT); index < (int) (to >>> SEGMENT_SHIFT); index++) {
+                segments.set(index, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rounds appended, committed or not.
+     *
+     * @return The round count.
+     */
+    public long size() {
+        return appended.get();
+    }
+
+    /**
+     * Returns the number of rounds made durable by the last commit.
+     *
+     * @return The committed round count.
+     */
+    public long committedSize() {
+        return committedRounds;
+    }
+
+    /**
+     * Stops the background commits, commits everything appended, and closes the file.
+     * Appends still running when this is called may be lost.
+     */
+    @Override
+    public void close() throws IOException {
+        committer.shutdown();
+        try {
+            committer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commit();
+        channel.close();
+        index.close();
+    }
+
+    // Brings the index in line with the committed rounds: drops entries past them, left by a crash, and adds any
+    // that are missing, e.g. for a journal written before the index existed
+    private void syncIndex() throws IOException {
+        long entries = (committedRounds + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+        long present = Math.min(index.size() / Long.BYTES, entries);
+        index.truncate(present * Long.BYTES);
+        if (present == entries) {
+            return;
+        }
+        long round = 0;
+        long record = 0;
+        if (present > 0) {
+            round = (present - 1) * INDEX_INTERVAL;
+            indexEntry.clear();
+            index.read(indexEntry, (present - 1) * Long.BYTES);
+            record = indexEntry.getLong(0);
+        }
+        for (; round < committedRounds; round++) {
+            if (round % INDEX_INTERVAL == 0) {
+                writeIndex(round / INDEX_INTERVAL, record);
+            }
+            record += 1 + segment(record).getInt(offset(record) + BETS);
+        }
+        index.force(false);
+        for (int i = 0; i < segments.length(); i++) {
+            segments.set(i, null); // Appends map what they need again
+        }
+    }
+
+    // Writes the index entry of the round at the given position
+    private void writeIndex(long entry, long record) {
+        indexEntry.clear();
+        indexEntry.putLong(0, record);
+        try {
+            index.write(indexEntry, entry * Long.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write journal index", e);
+        }
+    }
+
+    // Returns the segment holding a record, mapping it on first use; racing writers may both map it, which is harmless
+    private MappedByteBuffer segment(long record) {
+        int index = (int) (record >>> SEGMENT_SHIFT);
+        MappedByteBuffer segment = segments.get(index);
+        if (segment == null) {
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + ((long) index << SEGMENT_SHIFT) * RECORD_SIZE, (long) SEGMENT_RECORDS * RECORD_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map journal segment at record " + record, e);
+            }
+            if (!segments.compareAndSet(index, null, segment)) {
+                segment = segments.get(index);
+            }
+        }
+        return segment;
+    }
+
+    // Returns the byte offset of a record within its segment
+    private static int offset(long record) {
+        return (int) (record & (SEGMENT_RECORDS - 1)) * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,335 @@
+package baccarat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the committed rounds of a RoundJournal for audits, disputes and replays.
+ *
+ * The file is mapped read-only in large chunks and each record is read in place through one reusable Entry,
+ * so a scan allocates nothing per round and runs at the speed the file can be paged in.
+ *
+ * Each round record holds: shoe id (long), round in shoe (int), player and banker card counts (a byte each),
+ * three player and three banker card codes (-1 when not dealt), flags (natural, player drew, banker drew),
+ * winner (a BetBook type), table id (int), number of bets (int), total wagered and total paid in cents (longs).
+ * It is followed by one record per bet: session id (long), bet type (a byte), amount wagered and net payout in
+ * cents (longs). Rounds are of different lengths, so a scan that starts part way in seeks to the nearest round
+ * before it in the journal's index and steps over the rest, reading only their bet counts; replaying a recent
+ * range costs the same however long the journal is. Without an index file the scan steps from the first round.
+ */
+public final class RoundJournalReader implements AutoCloseable {
+    private static final int CHUNK_RECORDS = 1 << 22; // 256 MB mapped at a time
+
+    private final FileChannel channel;
+    private final FileChannel index; // Null when the journal has no index
+    private final long records; // Round and bet records
+    private final long rounds;
+
+    /**
+     * Receives each round of a scan.
+     */
+    public interface Visitor {
+        /**
+         * Called once per round, in journal order. The entry is reused, so read it before returning.
+         *
+         * @param index The position of the round in the journal.
+         * @param entry The round.
+         */
+        void visit(long index, Entry entry);
+    }
+
+    private RoundJournalReader(FileChannel channel, FileChannel index) throws IOException {
+        this.channel = channel;
+        this.index = index;
+        ByteBuffer header = ByteBuffer.allocate(RoundJournal.HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != RoundJournal.MAGIC || header.getInt(4) != RoundJournal.VERSION) {
+            throw new IOException("Not a round journal");
+        }
+        this.records = header.getLong(RoundJournal.COUNT_OFFSET);
+        this.rounds = header.getLong(RoundJournal.ROUNDS_OFFSET);
+    }
+
+    /**
+     * Opens a journal for reading. Only rounds committed before this call are visible.
+     *
+     * @param path The journal file.
+     * @return The reader.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    public static RoundJournalReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        FileChannel index = null;
+        try {
+            Path indexPath = RoundJournal.indexPath(path);
+            if (Files.exists(indexPath)) {
+                index = FileChannel.open(indexPath, StandardOpenOption.READ);
+            }
+            return new RoundJournalReader(channel, index);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of committed rounds.
+     *
+     * @return The round count.
+     */
+    public long size() {
+        return rounds;
+    }
+
+    /**
+     * Visits every committed round in order.
+     *
+     * @param visitor The visitor.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public void scan(Visitor visitor) throws IOException {
+        scan(0, rounds, visitor);
+    }
+
+    /**
+     * Visits a range of committed rounds in order.
+     *
+     * @param from The first round to visit, inclusive.
+     * @param to The last round to visit, exclusive.
+     * @param visitor The visitor.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public void scan(long from, long to, Visitor visitor) throws IOException {
+        if (from < 0 || to > rounds || from > to) {
+            throw new IndexOutOfBoundsException("Range " + from + "-" + to + " of " + rounds + " rounds");
+        }
+        Entry entry = new Entry();
+        long first = seek(from);
+        long record = first == 0 ? 0 : readIndex(first / RoundJournal.INDEX_INTERVAL);
+        long chunkStart = record;
+        long chunkEnd = record;
+        for (long index = first; index < to; index++) {
+            if (record == chunkEnd) {
+                chunkStart = record;
+                chunkEnd = map(entry, record, 1);
+            }
+            int bets = entry.buffer.getInt((int) (record - chunkStart) * RoundJournal.RECORD_SIZE + RoundJournal.BETS);
+            if (record + 1 + bets > chunkEnd) {
+                // The round's bets run past the chunk, so start the next chunk at the round
+                chunkStart = record;
+                chunkEnd = map(entry, record, 1 + bets);
+            }
+            if (index >= from) {
+                entry.offset = (int) (record - chunkStart) * RoundJournal.RECORD_SIZE;
+                visitor.visit(index, entry);
+            }
+            record += 1 + bets;
+        }
+    }
+
+    // Returns the nearest round at or before the given one that the index holds the record of, or 0
+    private long seek(long round) throws IOException {
+        if (index == null) {
+            return 0;
+        }
+        long entries = Math.min(index.size() / Long.BYTES, (rounds + RoundJournal.INDEX_INTERVAL - 1) / RoundJournal.INDEX_INTERVAL);
+        if (entries == 0) {
+            return 0;
+        }
+        return Math.min(round / RoundJournal.INDEX_INTERVAL, entries - 1) * RoundJournal.INDEX_INTERVAL;
+    }
+
+    // Reads the record of an indexed round
+    private long readIndex(long entry) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        int read = index.read(buffer, entry * Long.BYTES);
+        long record = buffer.getLong(0);
+        if (read < Long.BYTES || record < 0 || record >= records) {
+            throw new IOException("Journal index entry " + entry + " is out of range");
+        }
+        return record;
+    }
+
+    // Maps the chunk starting at a record, at least the given number of records long, and returns the record after it
+    private long map(Entry entry, long first, int needed) throws IOException {
+        long count = Math.min(Math.max(CHUNK_RECORDS, needed), records - first);
+        if (count < needed) {
+            throw new IOException("Journal ends inside the round at record " + first);
+        }
+        entry.buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                RoundJournal.HEADER_SIZE + first * RoundJournal.RECORD_SIZE, count * RoundJournal.RECORD_SIZE);
+        return first + count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    /**
+     * A view of one record, moved from round to round by a scan.
+     */
+    public static final class Entry {
+        private ByteBuffer buffer;
+        private int offset;
+
+        public long getShoeId() {
+            return buffer.getLong(offset + RoundJournal.SHOE);
+        }
+
+        public int getRound() {
+            return buffer.getInt(offset + RoundJournal.ROUND);
+        }
+
+        public int getTableId() {
+            return buffer.getInt(offset + RoundJournal.TABLE);
+        }
+
+        public int getPlayerCardCount() {
+            return buffer.get(offset + RoundJournal.PLAYER_COUNT);
+        }
+
+        public int getBankerCardCount() {
+            return buffer.get(offset + RoundJournal.BANKER_COUNT);
+        }
+
+        /**
+         * Returns a player card.
+         *
+         * @param index The position of the card, 0 through 2.
+         * @return The card code, or -1 if it was not dealt.
+         */
+        public int getPlayerCard(int index) {
+            return buffer.get(offset + RoundJournal.PLAYER_CARDS + index);
+        }
+
+        /**
+         * Returns a banker card.
+         *
+         * @param index The position of the card, 0 through 2.
+         * @return The card code, or -1 if it was not dealt.
+         */
+        public int getBankerCard(int index) {
+            return buffer.get(offset + RoundJournal.BANKER_CARDS + index);
+        }
+
+        public boolean isNatural() {
+            return (buffer.get(offset + RoundJournal.FLAGS) & RoundJournal.FLAG_NATURAL) != 0;
+        }
+
+        public boolean playerDrew() {
+            return (buffer.get(offset + RoundJournal.FLAGS) & RoundJournal.FLAG_PLAYER_DREW) != 0;
+        }
+
+        public boolean bankerDrew() {
+            return (buffer.get(offset + RoundJournal.FLAGS) & RoundJournal.FLAG_BANKER_DREW) != 0;
+        }
+
+        /**
+         * Returns the winner.
+         *
+         * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+         */
+        public int getWinner() {
+            return buffer.get(offset + RoundJournal.WINNER);
+        }
+
+        public int getBetCount() {
+            return buffer.getInt(offset + RoundJournal.BETS);
+        }
+
+        public long getWageredCents() {
+            return buffer.getLong(offset + RoundJournal.WAGERED);
+        }
+
+        /**
+         * Returns the net amount paid to the players; negative when the house won.
+         *
+         * @return The amount in cents.
+         */
+        public long getPaidCents() {
+            return buffer.getLong(offset + RoundJournal.PAID);
+        }
+
+        /**
+         * Returns the session that placed a bet.
+         *
+         * @param bet The position of the bet in the round, 0 through {@link #getBetCount()} - 1.
+         * @return The session id.
+         */
+        public long getBetSessionId(int bet) {
+            return buffer.getLong(betOffset(bet) + RoundJournal.SESSION);
+        }
+
+        /**
+         * Returns the type of a bet.
+         *
+         * @param bet The position of the bet in the round.
+         * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+         */
+        public int getBetType(int bet) {
+            return buffer.get(betOffset(bet) + RoundJournal.BET_TYPE);
+        }
+
+        /**
+         * Returns the amount wagered on a bet.
+         *
+         * @param bet The position of the bet in the round.
+         * @return The amount in cents.
+         */
+        public long getBetAmount(int bet) {
+            return buffer.getLong(betOffset(bet) + RoundJournal.AMOUNT);
+        }
+
+        /**
+         * Returns the net result of a bet.
+         *
+         * @param bet The position of the bet in the round.
+         * @return The cents won (positive), lost (negative), or zero if the bet was returned.
+         */
+        public long getBetPayout(int bet) {
+            return buffer.getLong(betOffset(bet) + RoundJournal.PAYOUT);
+        }
+
+        /**
+         * Rebuilds the player's hand from the recorded cards.
+         *
+         * @param hand The hand to deal the cards into; it is cleared first.
+         */
+        public void replayPlayerHand(Hand hand) {
+            hand.clear();
+            for (int i = 0; i < getPlayerCardCount(); i++) {
+                hand.add(getPlayerCard(i));
+            }
+        }
+
+        /**
+         * Rebuilds the banker's hand from the recorded cards.
+         *
+         * @param hand The hand to deal the cards into; it is cleared first.
+         */
+        public void replayBankerHand(Hand hand) {
+            hand.clear();
+            for (int i = 0; i < getBankerCardCount(); i++) {
+                hand.add(getBankerCard(i));
+            }
+        }
+
+        private int betOffset(int bet) {
+            if (bet < 0 || bet >= getBetCount()) {
+                throw new IndexOutOfBoundsException("Bet " + bet + " of " + getBetCount());
+            }
+            return offset + (1 + bet) * RoundJournal.RECORD_SIZE;
+        }
+    }
+}
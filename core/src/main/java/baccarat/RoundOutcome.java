@@ -0,0 +1,120 @@
+package baccarat;
+
+/**
+ * Compact descriptor of a resolved round, packed into a single int by one pass over the final hands.
+ * It holds everything the main bets and the side bets settle from, so settling any number of bets on a round
+ * reads a few bits instead of going back to the cards.
+ *
+ * Layout, from the lowest bit: player total (4 bits), banker total (4), player card count (2), banker card
+ * count (2), natural, player pair, banker pair, winner (2 bits, a BetBook type), winning margin (4), and
+ * whether the banker won with a 6.
+ */
+public final class RoundOutcome {
+    private static final int BANKER_TOTAL_SHIFT = 4;
+    private static final int PLAYER_CARDS_SHIFT = 8;
+    private static final int BANKER_CARDS_SHIFT = 10;
+    private static final int NATURAL = 1 << 12;
+    private static final int PLAYER_PAIR = 1 << 13;
+    private static final int BANKER_PAIR = 1 << 14;
+    private static final int WINNER_SHIFT = 15;
+    private static final int MARGIN_SHIFT = 17;
+    private static final int BANKER_SIX = 1 << 21;
+
+    private RoundOutcome() {
+    }
+
+    /**
+     * Describes a round from its final hands.
+     *
+     * @param playerHand The player's final hand, of two or three cards.
+     * @param bankerHand The banker's final hand, of two or three cards.
+     * @return The packed outcome.
+     */
+    public static int of(Hand playerHand, Hand bankerHand) {
+        int playerTotal = playerHand.total();
+        int bankerTotal = bankerHand.total();
+        int playerCode0 = playerHand.get(0);
+        int playerCode1 = playerHand.get(1);
+        int bankerCode0 = bankerHand.get(0);
+        int bankerCode1 = bankerHand.get(1);
+        // A natural is judged on the first two cards of each hand
+        boolean natural = (Card.pointOf(playerCode0) + Card.pointOf(playerCode1)) % 10 >= 8
+                || (Card.pointOf(bankerCode0) + Card.pointOf(bankerCode1)) % 10 >= 8;
+        int winner = playerTotal > bankerTotal ? BetBook.PLAYER : bankerTotal > playerTotal ? BetBook.BANKER : BetBook.DRAW;
+
+        return playerTotal
+                | bankerTotal << BANKER_TOTAL_SHIFT
+                | playerHand.size() << PLAYER_CARDS_SHIFT
+                | bankerHand.size() << BANKER_CARDS_SHIFT
+                | (natural ? NATURAL : 0)
+                | (Card.valueOf(playerCode0) == Card.valueOf(playerCode1) ? PLAYER_PAIR : 0)
+                | (Card.valueOf(bankerCode0) == Card.valueOf(bankerCode1) ? BANKER_PAIR : 0)
+                | winner << WINNER_SHIFT
+                | Math.abs(playerTotal - bankerTotal) << MARGIN_SHIFT
+                | (winner == BetBook.BANKER && bankerTotal == 6 ? BANKER_SIX : 0);
+    }
+
+    public static int playerTotal(int outcome) {
+        return outcome & 0xF;
+    }
+
+    public static int bankerTotal(int outcome) {
+        return (outcome >>> BANKER_TOTAL_SHIFT) & 0xF;
+    }
+
+    public static int playerCards(int outcome) {
+        return (outcome >>> PLAYER_CARDS_SHIFT) & 3;
+    }
+
+    public static int bankerCards(int outcome) {
+        return (outcome >>> BANKER_CARDS_SHIFT) & 3;
+    }
+
+    /**
+     * Returns whether the round ended on a natural 8 or 9 in either hand's first two cards.
+     *
+     * @param outcome A packed outcome.
+     * @return True for a natural.
+     */
+    public static boolean isNatural(int outcome) {
+        return (outcome & NATURAL) != 0;
+    }
+
+    public static boolean isPlayerPair(int outcome) {
+        return (outcome & PLAYER_PAIR) != 0;
+    }
+
+    public static boolean isBankerPair(int outcome) {
+        return (outcome & BANKER_PAIR) != 0;
+    }
+
+    /**
+     * Returns the winner.
+     *
+     * @param outcome A packed outcome.
+     * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     */
+    public static int winner(int outcome) {
+        return (outcome >>> WINNER_SHIFT) & 3;
+    }
+
+    /**
+     * Returns the number of points the winner won by.
+     *
+     * @param outcome A packed outcome.
+     * @return The margin, 0 for a draw.
+     */
+    public static int margin(int outcome) {
+        return (outcome >>> MARGIN_SHIFT) & 0xF;
+    }
+
+    /**
+     * Returns whether the banker won with a total of 6, which settles the Lucky 6 bet.
+     *
+     * @param outcome A packed outcome.
+     * @return True if the banker won with 6.
+     */
+    public static boolean isBankerSix(int outcome) {
+        return (outcome & BANKER_SIX) != 0;
+    }
+}
@@ -0,0 +1,151 @@
+package baccarat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable outcome of one fully resolved round of Baccarat.
+ * Holds the final hands, their totals, whether the round ended on a natural, and the winner.
+ * The hands are kept as packed card codes; Card views are only created when they are asked for.
+ */
+public final class RoundResult {
+    private final int playerCards;
+    private final int bankerCards;
+    private final int playerTotal;
+    private final int bankerTotal;
+    private final boolean natural;
+    private final Outcome winner;
+    private final int outcome;
+
+    /**
+     * Constructs a RoundResult from the final hands. The cards are copied, so the hands can be reused afterwards.
+     *
+     * @param playerHand The player's final hand.
+     * @param bankerHand The banker's final hand.
+     * @param natural True if the round ended on a natural 8 or 9.
+     * @param winner The winner of the round.
+     */
+    public RoundResult(Hand playerHand, Hand bankerHand, boolean natural, Outcome winner) {
+        this.playerCards = playerHand.pack();
+        this.bankerCards = bankerHand.pack();
+        this.playerTotal = playerHand.total();
+        this.bankerTotal = bankerHand.total();
+        this.natural = natural;
+        this.winner = winner;
+        this.outcome = RoundOutcome.of(playerHand, bankerHand);
+    }
+
+    /**
+     * Returns the player's final hand.
+     *
+     * @return An unmodifiable list of the player's cards, in the order they were dealt.
+     */
+    public List<Card> getPlayerHand() {
+        return toCards(playerCards);
+    }
+
+    /**
+     * Returns the banker's final hand.
+     *
+     * @return An unmodifiable list of the banker's cards, in the order they were dealt.
+     */
+    public List<Card> getBankerHand() {
+        return toCards(bankerCards);
+    }
+
+    /**
+     * Returns the player's final hand as packed card codes.
+     *
+     * @return The hand, packed as by {@link Hand#pack()}.
+     */
+    public int getPlayerCards() {
+        return playerCards;
+    }
+
+    /**
+     * Returns the banker's final hand as packed card codes.
+     *
+     * @return The hand, packed as by {@link Hand#pack()}.
+     */
+    public int getBankerCards() {
+        return bankerCards;
+    }
+
+    /**
+     * Returns the Baccarat total of the player's final hand.
+     *
+     * @return The player's total, 0 through 9.
+     */
+    public int getPlayerTotal() {
+        return playerTotal;
+    }
+
+    /**
+     * Returns the Baccarat total of the banker's final hand.
+     *
+     * @return The banker's total, 0 through 9.
+     */
+    public int getBankerTotal() {
+        return bankerTotal;
+    }
+
+    /**
+     * Returns whether the round ended on a natural, in which case no third cards were drawn.
+     *
+     * @return True if either side was dealt a natural 8 or 9.
+     */
+    public boolean isNatural() {
+        return natural;
+    }
+
+    /**
+     * Returns the compact descriptor the side bets settle from.
+     *
+     * @return The packed outcome, read through the methods of {@link RoundOutcome}.
+     */
+    public int getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the winner of the round.
+     *
+     * @return The outcome - PLAYER, BANKER, or DRAW.
+     */
+    public Outcome getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns whether the player drew a third card.
+     *
+     * @return True if the player's hand holds three cards.
+     */
+    public boolean playerDrew() {
+        return Hand.packedSize(playerCards) > 2;
+    }
+
+    /**
+     * Returns whether the banker drew a third card.
+     *
+     * @return True if the banker's hand holds three cards.
+     */
+    public boolean bankerDrew() {
+        return Hand.packedSize(bankerCards) > 2;
+    }
+
+    // Creates Card views of a packed hand
+    private static List<Card> toCards(int packed) {
+        Card[] cards = new Card[Hand.packedSize(packed)];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.fromCode(Hand.packedCard(packed, i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(cards));
+    }
+
+    @Override
+    public String toString() {
+        return "Player " + getPlayerHand() + " (" + playerTotal + "), Banker " + getBankerHand() + " (" + bankerTotal + "): " + winner;
+    }
+}
@@ -0,0 +1,420 @@
+package baccarat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The rules of one Baccarat variant: shoe size, cut card, burn procedure, drawing rules and payouts.
+ *
+ * A rule set is read once, usually at startup, and compiled into lookup tables: the drawing rules into the same
+ * tables BaccaratGameLogic always used, the burn into a card count per first card, and the payouts into a multiplier
+ * and a deduction per bet type and round outcome. Playing and settling a round under any variant therefore costs
+ * the same few array reads, with no configuration lookups or string comparisons.
+ *
+ * Rule sets are read from properties, starting from a preset and overriding any of these keys:
+ * <pre>
+ * preset=standard | macau | no-commission | ez
+ * name=Table rules
+ * decks=8
+ * commission.bps=500                 (commission on winning banker bets, in basis points)
+ * tie.pays=8                         (a winning bet on a draw pays this many to 1)
+ * cut.card=16                        (cards left behind the cut card; the shoe ends once it comes out)
+ * burn=value | none | 3              (at each new shoe: the first card and as many more as its value, nothing,
+ *                                     or a fixed count)
+ * player.draws=DDDDDDSSSS            (D or S for player totals 0 through 9)
+ * banker.tableau.6=SSSSSSSDDSS       (D or S for a banker total: player stood, then player third card 0 through 9)
+ * banker.six.deduction.bps=5000      (taken from a banker win on 6 instead of the commission)
+ * banker.three.card.seven.pushes=true (a banker win with a three card 7 is returned, as in EZ Baccarat)
+ * </pre>
+ */
+public final class RuleSet {
+    // The standard drawing rules. Row is the banker's total; the first column is for when the player stood, and
+    // the next ten are the point value (0-9) of the player's third card. D = draw, S = stand.
+    private static final String[] STANDARD_TABLEAU = {
+            "DDDDDDDDDDD", // 0
+            "DDDDDDDDDDD", // 1
+            "DDDDDDDDDDD", // 2
+            "DDDDDDDDDSD", // 3: stands only on a player's 8
+            "DSSDDDDDDSS", // 4: draws on a player's 2-7
+            "DSSSSDDDDSS", // 5: draws on a player's 4-7
+            "SSSSSSSDDSS", // 6: draws on a player's 6-7, stands if the player stood
+            "SSSSSSSSSSS", // 7
+            "SSSSSSSSSSS", // 8
+            "SSSSSSSSSSS", // 9
+    };
+    private static final String STANDARD_PLAYER_DRAWS = "DDDDDDSSSS"; // Player draws if total is 5 or less.
+
+    private static final int BURN_BY_VALUE = -1;
+    private static final int MAX_BURN_BY_VALUE = 11; // A face card or 10 burns itself and ten more
+    private static final int DEFAULT_CUT_CARD = 16; // Where the game always changed shoes: fewer than 17 cards left
+
+    /** Number of settlement keys; see {@link #settlementKey(int)}. */
+    static final int SETTLEMENT_KEYS = 256;
+
+    /** The rules this game has always played: six decks, 5% commission, a draw paying even money. */
+    public static final RuleSet STANDARD = new RuleSet("Standard", 6, DEFAULT_CUT_CARD, 500, 1, BURN_BY_VALUE,
+            STANDARD_PLAYER_DRAWS, STANDARD_TABLEAU, 500, false);
+
+    /** Macau style: eight decks, 5% commission, a draw paying 8 to 1. */
+    public static final RuleSet MACAU = new RuleSet("Macau", 8, DEFAULT_CUT_CARD, 500, 8, BURN_BY_VALUE,
+            STANDARD_PLAYER_DRAWS, STANDARD_TABLEAU, 500, false);
+
+    /** Commission free: eight decks, banker wins pay even money except a win on 6, which pays half. */
+    public static final RuleSet NO_COMMISSION = new RuleSet("No Commission", 8, DEFAULT_CUT_CARD, 0, 8, BURN_BY_VALUE,
+            STANDARD_PLAYER_DRAWS, STANDARD_TABLEAU, 5_000, false);
+
+    /** EZ Baccarat: eight decks, no commission, and a banker win with a three card 7 is returned. */
+    public static final RuleSet EZ = new RuleSet("EZ Baccarat", 8, DEFAULT_CUT_CARD, 0, 8, BURN_BY_VALUE,
+            STANDARD_PLAYER_DRAWS, STANDARD_TABLEAU, 0, true);
+
+    private final String name;
+    private final int numDecks;
+    private final int cutCard; // Cards left behind the cut card
+    private final int commissionBps;
+    private final int tiePays;
+    private final int burn; // Fixed number of cards, or BURN_BY_VALUE
+    private final String playerDraws;
+    private final String[] bankerTableau;
+    private final int bankerSixDeductionBps;
+    private final boolean bankerThreeCardSevenPushes;
+
+    // Compiled tables
+    private final boolean[] playerDrawTable = new boolean[10];
+    private final boolean[] bankerDrawTable = new boolean[10 * 11];
+    private final byte[] burnCounts = new byte[Card.CODES]; // Cards burnt, by the code of the first card
+    private final long[] multipliers = new long[3 * SETTLEMENT_KEYS]; // Stakes won, by bet type and settlement key
+    private final long[] deductionsBps = new long[3 * SETTLEMENT_KEYS]; // Basis points of the stake taken back
+
+    private RuleSet(String name, int numDecks, int cutCard, int commissionBps, int tiePays, int burn, String playerDraws,
+                    String[] bankerTableau, int bankerSixDeductionBps, boolean bankerThreeCardSevenPushes) {
+        if (numDecks <= 0) {
+            throw new IllegalArgumentException("Number of decks must be positive: " + numDecks);
+        }
+        if (commissionBps < 0 || commissionBps > 10_000 || bankerSixDeductionBps < 0 || bankerSixDeductionBps > 10_000) {
+            throw new IllegalArgumentException("Commission must be 0 to 10000 basis points");
+        }
+        if (tiePays < 0) {
+            throw new IllegalArgumentException("Tie payout must not be negative: " + tiePays);
+        }
+        if (burn < BURN_BY_VALUE || burn > Card.CODES) {
+            throw new IllegalArgumentException("Invalid burn count: " + burn);
+        }
+        // Every round dealt before the cut card comes out must fit, and so must the burn and first round of a shoe
+        int firstRound = (burn == BURN_BY_VALUE ? MAX_BURN_BY_VALUE : burn) + 2 * Hand.CAPACITY;
+        if (cutCard < 2 * Hand.CAPACITY || cutCard > numDecks * Card.CODES - firstRound) {
+            throw new IllegalArgumentException("Cut card must leave " + 2 * Hand.CAPACITY + " to "
+                    + (numDecks * Card.CODES - firstRound) + " cards behind it: " + cutCard);
+        }
+        this.name = name;
+        this.numDecks = numDecks;
+        this.cutCard = cutCard;
+        this.commissionBps = commissionBps;
+        this.tiePays = tiePays;
+        this.burn = burn;
+        this.playerDraws = checkRule(playerDraws, 10, "player.draws");
+        this.bankerTableau = new String[10];
+        for (int total = 0; total < 10; total++) {
+            this.bankerTableau[total] = checkRule(bankerTableau[total], 11, "banker.tableau." + total);
+        }
+        this.bankerSixDeductionBps = bankerSixDeductionBps;
+        this.bankerThreeCardSevenPushes = bankerThreeCardSevenPushes;
+
+        for (int total = 0; total < 10; total++) {
+            playerDrawTable[total] = this.playerDraws.charAt(total) == 'D';
+            for (int column = 0; column < 11; column++) {
+                bankerDrawTable[total * 11 + column] = this.bankerTableau[total].charAt(column) == 'D';
+            }
+        }
+        for (int code = 0; code < Card.CODES; code++) {
+            burnCounts[code] = (byte) (burn == BURN_BY_VALUE ? Math.min(Card.valueOf(code), 10) + 1 : burn);
+        }
+        compilePayouts();
+    }
+
+    // Fills the multiplier and deduction of every bet type for every settlement key
+    private void compilePayouts() {
+        for (int key = 0; key < SETTLEMENT_KEYS; key++) {
+            int winner = key & 3;
+            int bankerTotal = (key >>> 2) & 0xF;
+            int bankerCards = key >>> 6;
+            for (int type = BetBook.PLAYER; type <= BetBook.DRAW; type++) {
+                long multiplier;
+                long deduction = 0;
+                if (type == winner) {
+                    multiplier = type == BetBook.DRAW ? tiePays : 1;
+                    if (type == BetBook.BANKER) {
+                        if (bankerThreeCardSevenPushes && bankerTotal == 7 && bankerCards == 3) {
+                            multiplier = 0; // Returned
+                        } else {
+                            deduction = bankerTotal == 6 ? bankerSixDeductionBps : commissionBps;
+                        }
+                    }
+                } else {
+                    multiplier = winner == BetBook.DRAW ? 0 : -1; // Bets on either side are returned on a draw
+                }
+                multipliers[type * SETTLEMENT_KEYS + key] = multiplier;
+                deductionsBps[type * SETTLEMENT_KEYS + key] = deduction;
+            }
+        }
+    }
+
+    private static String checkRule(String rule, int length, String key) {
+        if (rule == null || rule.length() != length || !rule.matches("[DS]*")) {
+            throw new IllegalArgumentException(key + " must be " + length + " letters D or S: " + rule);
+        }
+        return rule;
+    }
+
+    /**
+     * Returns a preset by name.
+     *
+     * @param preset "standard", "macau", "no-commission" or "ez".
+     * @return The rule set.
+     * @throws IllegalArgumentException If there is no such preset.
+     */
+    public static RuleSet preset(String preset) {
+        switch (preset.trim().toLowerCase()) {
+            case "standard": return STANDARD;
+            case "macau": return MACAU;
+            case "no-commission": return NO_COMMISSION;
+            case "ez": return EZ;
+            default: throw new IllegalArgumentException("Unknown rule set preset: " + preset);
+        }
+    }
+
+    /**
+     * Reads a rule set from properties, as described above.
+     *
+     * @param properties The properties.
+     * @return The rule set.
+     * @throws IllegalArgumentException If a value is not valid.
+     */
+    public static RuleSet fromProperties(Properties properties) {
+        RuleSet base = preset(properties.getProperty("preset", "standard"));
+        String[] tableau = base.bankerTableau.clone();
+        for (int total = 0; total < 10; total++) {
+            tableau[total] = properties.getProperty("banker.tableau." + total, tableau[total]).trim();
+        }
+        String burnValue = properties.getProperty("burn");
+        int burn = base.burn;
+        if (burnValue != null) {
+            burnValue = burnValue.trim();
+            burn = burnValue.equals("value") ? BURN_BY_VALUE : burnValue.equals("none") ? 0 : parseInt(properties, "burn");
+        }
+        int commission = properties.containsKey("commission.bps") ? parseInt(properties, "commission.bps") : base.commissionBps;
+        // A win on 6 follows the commission unless the preset or the properties set it apart
+        int bankerSix = properties.containsKey("banker.six.deduction.bps") ? parseInt(properties, "banker.six.deduction.bps")
+                : base.bankerSixDeductionBps == base.commissionBps ? commission : base.bankerSixDeductionBps;
+        return new RuleSet(
+                properties.getProperty("name", base.name).trim(),
+                properties.containsKey("decks") ? parseInt(properties, "decks") : base.numDecks,
+                properties.containsKey("cut.card") ? parseInt(properties, "cut.card") : base.cutCard,
+                commission,
+                properties.containsKey("tie.pays") ? parseInt(properties, "tie.pays") : base.tiePays,
+                burn,
+                properties.getProperty("player.draws", base.playerDraws).trim(),
+                tableau,
+                bankerSix,
+                Boolean.parseBoolean(properties.getProperty("banker.three.card.seven.pushes",
+                        String.valueOf(base.bankerThreeCardSevenPushes)).trim()));
+    }
+
+    /**
+     * Reads a rule set from a properties file.
+     *
+     * @param path The file.
+     * @return The rule set.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If a value is not valid.
+     */
+    public static RuleSet load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    private static int parseInt(Properties properties, String key) {
+        try {
+            return Integer.parseInt(properties.getProperty(key).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a whole number: " + properties.getProperty(key), e);
+        }
+    }
+
+    /**
+     * Returns a copy of these rules with a different shoe size.
+     *
+     * @param decks The number of decks.
+     * @return The rule set, or this one if it already uses that many decks.
+     */
+    public RuleSet withDecks(int decks) {
+        return decks == numDecks ? this : new RuleSet(name, decks, cutCard, commissionBps, tiePays, burn, playerDraws,
+                bankerTableau, bankerSixDeductionBps, bankerThreeCardSevenPushes);
+    }
+
+    /**
+     * Returns the name of the table these rules are for.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of decks in a full shoe.
+     *
+     * @return The number of decks.
+     */
+    public int getNumDecks() {
+        return numDecks;
+    }
+
+    /**
+     * Returns the position of the cut card, counted from the back of the shoe. A round is only started while more
+     * cards than this are left; once the cut card has come out, the next round starts a new shoe.
+     *
+     * @return The number of cards left behind the cut card.
+     */
+    public int getCutCard() {
+        return cutCard;
+    }
+
+    /**
+     * Returns whether the cut card has come out of a shoe, so the shoe must be changed before the next round.
+     *
+     * @param remaining The number of cards not dealt yet.
+     * @return True if the shoe is finished.
+     */
+    public boolean isShoeFinished(int remaining) {
+        return remaining <= cutCard;
+    }
+
+    /**
+     * Looks up the player's drawing rule.
+     *
+     * @param playerTotal The player's total, 0 through 9.
+     * @return True if the player draws.
+     */
+    public boolean playerDraws(int playerTotal) {
+        return playerDrawTable[playerTotal];
+    }
+
+    /**
+     * Looks up the banker's drawing rule.
+     *
+     * @param bankerTotal The banker's total, 0 through 9.
+     * @param playerThirdValue The point value (0-9) of the player's third card, or -1 if the player stood.
+     * @return True if the banker draws.
+     */
+    public boolean bankerDraws(int bankerTotal, int playerThirdValue) {
+        return bankerDrawTable[bankerTotal * 11 + playerThirdValue + 1];
+    }
+
+    /**
+     * Returns the number of cards to burn at the start of a shoe given the first card of the burn, which is included
+     * in the count.
+     *
+     * @param firstCard The code of the first card.
+     * @return The number of cards to burn, possibly 0.
+     */
+    public int burnCount(int firstCard) {
+        return burnCounts[firstCard];
+    }
+
+    // The compiled tables, shared with the classes that play rounds so they can index them directly
+    boolean[] playerDrawTable() {
+        return playerDrawTable;
+    }
+
+    boolean[] bankerDrawTable() {
+        return bankerDrawTable;
+    }
+
+    /**
+     * Reduces a round outcome to what its main bets settle on: the winner, the banker's total and card count.
+     *
+     * @param outcome A packed outcome from {@link RoundOutcome}.
+     * @return The settlement key, 0 through 255.
+     */
+    public static int settlementKey(int outcome) {
+        return RoundOutcome.winner(outcome) | RoundOutcome.bankerTotal(outcome) << 2 | RoundOutcome.bankerCards(outcome) << 6;
+    }
+
+    /**
+     * Returns the number of stakes won by a main bet: 1 for an even money win, 0 when returned, -1 when lost.
+     *
+     * @param type The bet type.
+     * @param key A settlement key.
+     * @return The multiplier.
+     */
+    public long multiplier(int type, int key) {
+        return multipliers[type * SETTLEMENT_KEYS + key];
+    }
+
+    /**
+     * Returns the share of the stake taken back from a main bet's win, such as the banker commission.
+     *
+     * @param type The bet type.
+     * @param key A settlement key.
+     * @return The deduction, in basis points of the stake.
+     */
+    public long deductionBps(int type, int key) {
+        return deductionsBps[type * SETTLEMENT_KEYS + key];
+    }
+
+    /**
+     * Returns the net result of a one unit main bet.
+     *
+     * @param type The bet type.
+     * @param key A settlement key.
+     * @return The units won (positive), lost (negative), or zero.
+     */
+    public double netUnits(int type, int key) {
+        return multiplier(type, key) - deductionBps(type, key) / 10_000.0;
+    }
+
+    /**
+     * Calculates the net result of a main bet in cents, rounding deductions half up to the cent as in {@link Money}.
+     *
+     * @param type The bet type.
+     * @param outcome The packed outcome of the round.
+     * @param betCents The amount wagered, in cents.
+     * @return The cents won (positive), lost (negative), or zero if the bet was returned.
+     */
+    public long payoutCents(int type, int outcome, long betCents) {
+        int key = settlementKey(outcome);
+        return betCents * multiplier(type, key) - Money.commission(betCents, (int) deductionBps(type, key));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof RuleSet)) {
+            return false;
+        }
+        RuleSet rules = (RuleSet) other;
+        return numDecks == rules.numDecks && cutCard == rules.cutCard && commissionBps == rules.commissionBps && tiePays == rules.tiePays
+                && burn == rules.burn && playerDraws.equals(rules.playerDraws)
+                && Arrays.equals(bankerTableau, rules.bankerTableau)
+                && bankerSixDeductionBps == rules.bankerSixDeductionBps
+                && bankerThreeCardSevenPushes == rules.bankerThreeCardSevenPushes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numDecks, cutCard, commissionBps, tiePays, burn, playerDraws, Arrays.hashCode(bankerTableau),
+                bankerSixDeductionBps, bankerThreeCardSevenPushes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d decks, commission %d bps, tie pays %d to 1", name, numDecks, commissionBps, tiePays);
+    }
+}
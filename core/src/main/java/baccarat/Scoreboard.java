@@ -0,0 +1,420 @@
+package baccarat;
+
+/**
+ * Running scoreboard of a table: outcome counts, streaks, naturals and pairs, and the standard roads - the Bead
+ * Plate, the Big Road and its three derived roads, Big Eye Boy, Small Road and Cockroach Pig.
+ *
+ * Recording a round takes constant time. The roads are kept in fixed size rings holding their most recent entries,
+ * and a derived road entry only compares the lengths of two Big Road columns. Recording and snapshots may come
+ * from different threads.
+ */
+public final class Scoreboard {
+    /** Bead Plate flag: the player's first two cards were a pair. */
+    public static final int PLAYER_PAIR = 4;
+
+    /** Bead Plate flag: the banker's first two cards were a pair. */
+    public static final int BANKER_PAIR = 8;
+
+    /** Bead Plate flag: the round ended on a natural. */
+    public static final int NATURAL = 16;
+
+    /** Derived road entry: the Big Road is repeating its pattern. */
+    public static final byte RED = 0;
+
+    /** Derived road entry: the Big Road is breaking its pattern. */
+    public static final byte BLUE = 1;
+
+    /** The number of derived roads: Big Eye Boy, Small Road and Cockroach Pig, looking 1, 2 and 3 columns back. */
+    public static final int DERIVED_ROADS = 3;
+
+    private static final int WINNER_MASK = 3;
+
+    private final int capacity; // Entries kept by each road
+
+    private long rounds;
+    private long playerWins;
+    private long bankerWins;
+    private long draws;
+    private long naturals;
+    private long playerPairs;
+    private long bankerPairs;
+    private int streakWinner = -1; // Side of the current streak; draws do not break a streak
+    private int streakLength;
+    private int longestPlayerStreak;
+    private int longestBankerStreak;
+
+    private final byte[] beads; // Winner and flags of each round
+
+    // Big Road cells in order, and the length of each column; draws are counted on the cell before them
+    private final int[] cellColumn;
+    private final int[] cellRow;
+    private final byte[] cellWinner;
+    private final int[] cellDraws;
+    private long cells;
+    private int leadingDraws; // Draws before the first cell
+    private final int[] columnLength;
+    private long columns;
+
+    private final byte[][] derived = new byte[DERIVED_ROADS][];
+    private final long[] derivedCount = new long[DERIVED_ROADS];
+
+    /**
+     * Constructs an empty scoreboard.
+     *
+     * @param capacity The number of recent entries each road keeps, at least 8; a shoe rarely lasts more than 100 rounds.
+     */
+    public Scoreboard(int capacity) {
+        if (capacity < 8) {
+            throw new IllegalArgumentException("Capacity must be at least 8: " + capacity);
+        }
+        this.capacity = capacity;
+        beads = new byte[capacity];
+        cellColumn = new int[capacity];
+        cellRow = new int[capacity];
+        cellWinner = new byte[capacity];
+        cellDraws = new int[capacity];
+        columnLength = new int[capacity];
+        for (int road = 0; road < DERIVED_ROADS; road++) {
+            derived[road] = new byte[capacity];
+        }
+    }
+
+    /**
+     * Records a played round.
+     *
+     * @param round The result of the round.
+     */
+    public void record(RoundResult round) {
+        record(round.getWinner().getCode(), round.isNatural(),
+                isPair(round.getPlayerCards()), isPair(round.getBankerCards()));
+    }
+
+    /**
+     * Records a round from its outcome.
+     *
+     * @param winner BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+     * @param natural True if the round ended on a natural.
+     * @param playerPair True if the player's first two cards were a pair.
+     * @param bankerPair True if the banker's first two cards were a pair.
+     */
+    public synchronized void record(int winner, boolean natural, boolean playerPair, boolean bankerPair) {
+        if (winner < BetBook.PLAYER || winner > BetBook.DRAW) {
+            throw new IllegalArgumentException("Invalid winner: " + winner);
+        }
+        beads[slot(rounds)] = (byte) (winner | (playerPair ? PLAYER_PAIR : 0) | (bankerPair ? BANKER_PAIR : 0) | (natural ? NATURAL : 0));
+        rounds++;
+        naturals += natural ? 1 : 0;
+        playerPairs += playerPair ? 1 : 0;
+        bankerPairs += bankerPair ? 1 : 0;
+
+        if (winner == BetBook.DRAW) {
+            draws++;
+            if (cells == 0) {
+                leadingDraws++;
+            } else {
+                cellDraws[slot(cells - 1)]++;
+            }
+            return;
+        }
+
+        if (winner == BetBook.PLAYER) {
+            playerWins++;
+        } else {
+            bankerWins++;
+        }
+        if (winner == streakWinner) {
+            streakLength++;
+        } else {
+            streakWinner = winner;
+            streakLength = 1;
+        }
+        if (winner == BetBook.PLAYER) {
+            longestPlayerStreak = Math.max(longestPlayerStreak, streakLength);
+        } else {
+            longestBankerStreak = Math.max(longestBankerStreak, streakLength);
+        }
+
+        // A streak of one starts a new Big Road column; a longer one goes down the current column
+        long column;
+        int row;
+        if (streakLength == 1) {
+            column = columns++;
+            row = 0;
+            columnLength[slot(column)] = 1;
+        } else {
+            column = columns - 1;
+            row = columnLength[slot(column)]++;
+        }
+        int cell = slot(cells++);
+        cellColumn[cell] = (int) column;
+        cellRow[cell] = row;
+        cellWinner[cell] = (byte) winner;
+        cellDraws[cell] = 0;
+
+        for (int road = 0; road < DERIVED_ROADS; road++) {
+            int k = road + 1; // Columns looked back
+            if (column < k || (column == k && row == 0)) {
+                continue; // The road starts once there is a column k back to compare with
+            }
+            byte entry;
+            if (row == 0) {
+                // A new column repeats the pattern if the last two columns compared are as long as each other
+                entry = columnLength[slot(column - 1)] == columnLength[slot(column - 1 - k)] ? RED : BLUE;
+            } else {
+                // Going down repeats the pattern unless the column k back ended exactly one row above this one
+                entry = columnLength[slot(column - k)] == row ? BLUE : RED;
+            }
+            derived[road][slot(derivedCount[road]++)] = entry;
+        }
+    }
+
+    /**
+     * Starts the roads and counts again, e.g. when the table starts a new shoe.
+     */
+    public synchronized void clear() {
+        rounds = playerWins = bankerWins = draws = naturals = playerPairs = bankerPairs = 0;
+        streakWinner = -1;
+        streakLength = longestPlayerStreak = longestBankerStreak = 0;
+        cells = columns = 0;
+        leadingDraws = 0;
+        for (int road = 0; road < DERIVED_ROADS; road++) {
+            derivedCount[road] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of rounds recorded.
+     *
+     * @return The round count.
+     */
+    public synchronized long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Takes an immutable copy of the scoreboard for a UI or a network client.
+     *
+     * @return The snapshot.
+     */
+    public synchronized Snapshot snapshot() {
+        int cellCount = (int) Math.min(cells, capacity);
+        int[] columnsCopy = new int[cellCount];
+        int[] rowsCopy = new int[cellCount];
+        byte[] winnersCopy = new byte[cellCount];
+        int[] drawsCopy = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            int cell = slot(cells - cellCount + i);
+            columnsCopy[i] = cellColumn[cell];
+            rowsCopy[i] = cellRow[cell];
+            winnersCopy[i] = cellWinner[cell];
+            drawsCopy[i] = cellDraws[cell];
+        }
+        byte[][] derivedCopy = new byte[DERIVED_ROADS][];
+        for (int road = 0; road < DERIVED_ROADS; road++) {
+            derivedCopy[road] = recent(derived[road], derivedCount[road]);
+        }
+        return new Snapshot(this, recent(beads, rounds), columnsCopy, rowsCopy, winnersCopy, drawsCopy, derivedCopy);
+    }
+
+    private int slot(long index) {
+        return (int) (index % capacity);
+    }
+
+    // Copies the most recent entries of a ring, oldest first
+    private byte[] recent(byte[] ring, long count) {
+        int length = (int) Math.min(count, capacity);
+        byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = ring[slot(count - length + i)];
+        }
+        return copy;
+    }
+
+    // Whether the first two cards of a packed hand have the same rank
+    private static boolean isPair(int packedHand) {
+        return Hand.packedSize(packedHand) >= 2
+                && Card.valueOf(Hand.packedCard(packedHand, 0)) == Card.valueOf(Hand.packedCard(packedHand, 1));
+    }
+
+    /**
+     * An immutable copy of a scoreboard. Road entries are oldest first and hold at most the scoreboard's capacity.
+     */
+    public static final class Snapshot {
+        private final long rounds;
+        private final long playerWins;
+        private final long bankerWins;
+        private final long draws;
+        private final long naturals;
+        private final long playerPairs;
+        private final long bankerPairs;
+        private final int streakWinner;
+        private final int streakLength;
+        private final int longestPlayerStreak;
+        private final int longestBankerStreak;
+        private final int leadingDraws;
+        private final byte[] beadPlate;
+        private final int[] bigRoadColumns;
+        private final int[] bigRoadRows;
+        private final byte[] bigRoadWinners;
+        private final int[] bigRoadDraws;
+        private final byte[][] derivedRoads;
+
+        private Snapshot(Scoreboard board, byte[] beadPlate, int[] bigRoadColumns, int[] bigRoadRows,
+                         byte[] bigRoadWinners, int[] bigRoadDraws, byte[][] derivedRoads) {
+            this.rounds = board.rounds;
+            this.playerWins = board.playerWins;
+            this.bankerWins = board.bankerWins;
+            this.draws = board.draws;
+            this.naturals = board.naturals;
+            this.playerPairs = board.playerPairs;
+            this.bankerPairs = board.bankerPairs;
+            this.streakWinner = board.streakWinner;
+            this.streakLength = board.streakLength;
+            this.longestPlayerStreak = board.longestPlayerStreak;
+            this.longestBankerStreak = board.longestBankerStreak;
+            this.leadingDraws = board.leadingDraws;
+            this.beadPlate = beadPlate;
+            this.bigRoadColumns = bigRoadColumns;
+            this.bigRoadRows = bigRoadRows;
+            this.bigRoadWinners = bigRoadWinners;
+            this.bigRoadDraws = bigRoadDraws;
+            this.derivedRoads = derivedRoads;
+        }
+
+        public long getRounds() {
+            return rounds;
+        }
+
+        public long getPlayerWins() {
+            return playerWins;
+        }
+
+        public long getBankerWins() {
+            return bankerWins;
+        }
+
+        public long getDraws() {
+            return draws;
+        }
+
+        public long getNaturals() {
+            return naturals;
+        }
+
+        public long getPlayerPairs() {
+            return playerPairs;
+        }
+
+        public long getBankerPairs() {
+            return bankerPairs;
+        }
+
+        /**
+         * Returns the side of the current streak.
+         *
+         * @return BetBook.PLAYER or BetBook.BANKER, or -1 if neither side has won yet.
+         */
+        public int getStreakWinner() {
+            return streakWinner;
+        }
+
+        public int getStreakLength() {
+            return streakLength;
+        }
+
+        public int getLongestPlayerStreak() {
+            return longestPlayerStreak;
+        }
+
+        public int getLongestBankerStreak() {
+            return longestBankerStreak;
+        }
+
+        /**
+         * Returns the Bead Plate: one entry per round, the winner plus the PLAYER_PAIR, BANKER_PAIR and NATURAL flags.
+         *
+         * @return A copy of the entries.
+         */
+        public byte[] getBeadPlate() {
+            return beadPlate.clone();
+        }
+
+        /**
+         * Returns the winner of a Bead Plate entry.
+         *
+         * @param bead An entry of the Bead Plate.
+         * @return BetBook.PLAYER, BetBook.BANKER or BetBook.DRAW.
+         */
+        public static int winnerOf(byte bead) {
+            return bead & WINNER_MASK;
+        }
+
+        /**
+         * Returns the number of Big Road cells in this snapshot.
+         *
+         * @return The cell count.
+         */
+        public int getBigRoadSize() {
+            return bigRoadColumns.length;
+        }
+
+        /**
+         * Returns the column of a Big Road cell, counted from the first column of the shoe.
+         *
+         * @param cell The cell, 0 being the oldest in the snapshot.
+         * @return The column.
+         */
+        public int getBigRoadColumn(int cell) {
+            return bigRoadColumns[cell];
+        }
+
+        /**
+         * Returns the row of a Big Road cell, counted down from the top of its column.
+         *
+         * @param cell The cell, 0 being the oldest in the snapshot.
+         * @return The row.
+         */
+        public int getBigRoadRow(int cell) {
+            return bigRoadRows[cell];
+        }
+
+        /**
+         * Returns the side that won a Big Road cell.
+         *
+         * @param cell The cell, 0 being the oldest in the snapshot.
+         * @return BetBook.PLAYER or BetBook.BANKER.
+         */
+        public int getBigRoadWinner(int cell) {
+            return bigRoadWinners[cell];
+        }
+
+        /**
+         * Returns the number of draws that followed a Big Road cell, marked on the cell.
+         *
+         * @param cell The cell, 0 being the oldest in the snapshot.
+         * @return The draw count.
+         */
+        public int getBigRoadDraws(int cell) {
+            return bigRoadDraws[cell];
+        }
+
+        /**
+         * Returns the number of draws before the first Big Road cell of the shoe.
+         *
+         * @return The draw count.
+         */
+        public int getLeadingDraws() {
+            return leadingDraws;
+        }
+
+        /**
+         * Returns a derived road as a sequence of RED and BLUE entries, which a UI lays out in columns of one color.
+         *
+         * @param road 0 for Big Eye Boy, 1 for Small Road, 2 for Cockroach Pig.
+         * @return A copy of the entries.
+         */
+        public byte[] getDerivedRoad(int road) {
+            return derivedRoads[road].clone();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package baccarat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A shoe of cards stored as a primitive array of card codes with a cursor marking the next card to deal.
+ * Dealing only moves the cursor, so no Card objects are created or removed while a shoe is played.
+ * The array always holds a permutation of the full shoe, so a shoe is started again by moving the cursor back
+ * and shuffling the same storage.
+ * The shoe also counts the cards of each rank it has left, one decrement per card dealt, so the composition of
+ * the remaining shoe is always known without scanning it.
+ */
+public class Shoe {
+    private final byte[] cards; // Card codes in dealing order
+    private int cursor; // Index of the next card to deal
+    private final int[] rankCounts = new int[13]; // Cards left of each rank, Ace (index 0) through King (index 12)
+
+    /**
+     * Constructs an unshuffled shoe holding the given number of standard 52 card decks.
+     *
+     * @param numDecks The number of decks in the shoe.
+     */
+    public Shoe(int numDecks) {
+        cards = new byte[numDecks * Card.CODES];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % Card.CODES);
+        }
+        countRemaining();
+    }
+
+    /**
+     * Constructs a shoe from saved state, such as a snapshot written by {@link #writeTo(ByteBuffer)}.
+     *
+     * @param cards The card codes in dealing order; must hold every card of a whole number of decks once per deck.
+     * @param cursor The index of the next card to deal.
+     * @throws IllegalArgumentException If the cards are not a full shoe or the cursor is out of range.
+     */
+    public Shoe(byte[] cards, int cursor) {
+        if (cards.length == 0 || cards.length % Card.CODES != 0 || cursor < 0 || cursor > cards.length) {
+            throw new IllegalArgumentException("Invalid shoe of " + cards.length + " cards at " + cursor);
+        }
+        int[] counts = new int[Card.CODES];
+        for (byte code : cards) {
+            if (code < 0 || code >= Card.CODES || ++counts[code] > cards.length / Card.CODES) {
+                throw new IllegalArgumentException("Shoe does not hold whole decks");
+            }
+        }
+        this.cards = cards;
+        this.cursor = cursor;
+        countRemaining();
+    }
+
+    /**
+     * Shuffles the cards that have not been dealt yet with a Fisher-Yates shuffle.
+     *
+     * @param random The source of randomness.
+     */
+    public void shuffle(RandomGenerator random) {
+        shuffle(FisherYatesShuffle.INSTANCE, random);
+    }
+
+    /**
+     * Shuffles the cards that have not been dealt yet with the given strategy.
+     *
+     * @param strategy The shuffle algorithm.
+     * @param random The source of randomness.
+     */
+    public void shuffle(ShuffleStrategy strategy, RandomGenerator random) {
+        strategy.shuffle(cards, cursor, cards.length, random);
+    }
+
+    /**
+     * Puts every dealt card back into the shoe, keeping the current order. Allocates nothing.
+     */
+    public void reset() {
+        cursor = 0;
+        Arrays.fill(rankCounts, cards.length / Card.CODES * 4); // Four suits per deck
+    }
+
+    /**
+     * Puts every card back in the order of a new, unshuffled shoe. Allocates nothing.
+     * A shuffle that starts from this order depends only on the random source, not on the shoe's earlier shuffles.
+     */
+    public void restack() {
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % Card.CODES);
+        }
+        reset();
+    }
+
+    /**
+     * Puts every dealt card back and shuffles the whole shoe in place with a Fisher-Yates shuffle.
+     *
+     * @param random The source of randomness.
+     */
+    public void reshuffle(RandomGenerator random) {
+        reshuffle(FisherYatesShuffle.INSTANCE, random);
+    }
+
+    /**
+     * Puts every dealt card back and shuffles the whole shoe in place with the given strategy.
+     *
+     * @param strategy The shuffle algorithm.
+     * @param random The source of randomness.
+     */
+    public void reshuffle(ShuffleStrategy strategy, RandomGenerator random) {
+        reset();
+        shuffle(strategy, random);
+    }
+
+    /**
+     * Deals the next card.
+     *
+     * @return The code of the card, or -1 if the shoe is empty.
+     */
+    public int draw() {
+        if (cursor == cards.length) {
+            return -1;
+        }
+        int code = cards[cursor++];
+        rankCounts[Card.valueOf(code) - 1]--;
+        return code;
+    }
+
+    /**
+     * Returns the next card without dealing it.
+     *
+     * @return The code of the card, or -1 if the shoe is empty.
+     */
+    public int peek() {
+        return cursor < cards.length ? cards[cursor] : -1;
+    }
+
+    /**
+     * Discards up to the given number of cards from the front of the shoe.
+     *
+     * @param count The number of cards to discard.
+     */
+    public void skip(int count) {
+        int end = Math.min(cards.length, cursor + count);
+        while (cursor < end) {
+            rankCounts[Card.valueOf(cards[cursor++]) - 1]--;
+        }
+    }
+
+    /**
+     * Returns the number of cards that have not been dealt yet.
+     *
+     * @return The number of remaining cards.
+     */
+    public int remaining() {
+        return cards.length - cursor;
+    }
+
+    /**
+     * Returns the total number of cards in the shoe, dealt or not.
+     *
+     * @return The capacity of the shoe.
+     */
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Returns the index of the next card to deal, which is also the number of cards dealt.
+     *
+     * @return The cursor.
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Writes every card in dealing order, dealt or not, as one byte per card.
+     *
+     * @param out The buffer to write to; it needs {@link #size()} bytes free.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.put(cards);
+    }
+
+    /**
+     * Returns the number of cards left of one rank.
+     *
+     * @param value The rank, 1 (Ace) through 13 (King).
+     * @return The number of cards of that rank not dealt yet.
+     */
+    public int remainingOf(int value) {
+        return rankCounts[value - 1];
+    }
+
+    /**
+     * Copies the number of cards left of each rank.
+     *
+     * @param counts Thirteen counts to fill, for Ace (index 0) through King (index 12).
+     */
+    public void getRankCounts(int[] counts) {
+        System.arraycopy(rankCounts, 0, counts, 0, rankCounts.length);
+    }
+
+    /**
+     * Copies the number of cards left of each point value; 10s and face cards all count as 0.
+     *
+     * @param counts Ten counts to fill, indexed by point value 0 through 9.
+     */
+    public void getPointCounts(int[] counts) {
+        counts[0] = rankCounts[9] + rankCounts[10] + rankCounts[11] + rankCounts[12];
+        for (int point = 1; point <= 9; point++) {
+            counts[point] = rankCounts[point - 1];
+        }
+    }
+
+    // Counts the cards from the cursor to the end of the shoe
+    private void countRemaining() {
+        Arrays.fill(rankCounts, 0);
+        for (int i = cursor; i < cards.length; i++) {
+            rankCounts[Card.valueOf(cards[i]) - 1]++;
+        }
+    }
+}
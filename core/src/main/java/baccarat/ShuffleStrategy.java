@@ -0,0 +1,43 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * An algorithm for shuffling the card codes of a shoe in place.
+ * Strategies are chosen per dealer: Fisher-Yates for simulation and play, and the riffle and strip shuffles to
+ * model how a shoe is shuffled by hand at a real table.
+ */
+public interface ShuffleStrategy {
+
+    /**
+     * Shuffles a range of card codes in place.
+     *
+     * @param cards The card codes.
+     * @param from The first index to shuffle, inclusive.
+     * @param to The last index to shuffle, exclusive.
+     * @param random The source of randomness.
+     */
+    void shuffle(byte[] cards, int from, int to, RandomGenerator random);
+
+    /**
+     * Returns a strategy that applies this shuffle and then the given one.
+     *
+     * @param next The shuffle applied second.
+     * @return The combined strategy.
+     */
+    default ShuffleStrategy then(ShuffleStrategy next) {
+        return (cards, from, to, random) -> {
+            shuffle(cards, from, to, random);
+            next.shuffle(cards, from, to, random);
+        };
+    }
+
+    /**
+     * Returns the usual casino procedure for a shoe: two riffles, a strip, and a final riffle.
+     *
+     * @return The combined strategy.
+     */
+    static ShuffleStrategy casino() {
+        return new RiffleShuffle(2).then(new StripShuffle()).then(new RiffleShuffle(1));
+    }
+}
@@ -0,0 +1,90 @@
+package baccarat;
+
+/**
+ * Side bets sold alongside the main bets, each settled from a round's {@link RoundOutcome} descriptor.
+ * Payouts are quoted as "X to 1": a win pays X times the bet on top of returning it, a loss takes the bet,
+ * and a push returns it.
+ */
+public enum SideBet {
+    /** The player's first two cards are a pair; pays 11 to 1. */
+    PLAYER_PAIR("Player Pair"),
+    /** The banker's first two cards are a pair; pays 11 to 1. */
+    BANKER_PAIR("Banker Pair"),
+    /** Dragon Bonus on the player: 1 to 1 on a natural win, up to 30 to 1 on a non-natural win by 9. */
+    PLAYER_DRAGON_BONUS("Player Dragon Bonus"),
+    /** Dragon Bonus on the banker: 1 to 1 on a natural win, up to 30 to 1 on a non-natural win by 9. */
+    BANKER_DRAGON_BONUS("Banker Dragon Bonus"),
+    /** The banker wins with 6; pays 12 to 1 with two cards and 20 to 1 with three. */
+    LUCKY_6("Lucky 6"),
+    /** EZ Baccarat's Dragon 7: the banker wins with a three card 7; pays 40 to 1. */
+    DRAGON_7("Dragon 7"),
+    /** EZ Baccarat's Panda 8: the player wins with a three card 8; pays 25 to 1. */
+    PANDA_8("Panda 8");
+
+    // Dragon Bonus payout for a non-natural win, indexed by the winning margin
+    private static final int[] DRAGON_BONUS_BY_MARGIN = {-1, -1, -1, -1, 1, 2, 4, 6, 10, 30};
+
+    private final String displayName;
+
+    SideBet(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name shown to players.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Settles a one unit bet.
+     *
+     * @param outcome The packed outcome of the round.
+     * @return The units won (X for a win at X to 1), -1 for a loss, or 0 for a push.
+     */
+    public int settle(int outcome) {
+        switch (this) {
+            case PLAYER_PAIR:
+                return RoundOutcome.isPlayerPair(outcome) ? 11 : -1;
+            case BANKER_PAIR:
+                return RoundOutcome.isBankerPair(outcome) ? 11 : -1;
+            case PLAYER_DRAGON_BONUS:
+                return dragonBonus(outcome, BetBook.PLAYER);
+            case BANKER_DRAGON_BONUS:
+                return dragonBonus(outcome, BetBook.BANKER);
+            case LUCKY_6:
+                return RoundOutcome.isBankerSix(outcome) ? (RoundOutcome.bankerCards(outcome) == 2 ? 12 : 20) : -1;
+            case DRAGON_7:
+                return RoundOutcome.winner(outcome) == BetBook.BANKER && RoundOutcome.bankerTotal(outcome) == 7
+                        && RoundOutcome.bankerCards(outcome) == 3 ? 40 : -1;
+            case PANDA_8:
+                return RoundOutcome.winner(outcome) == BetBook.PLAYER && RoundOutcome.playerTotal(outcome) == 8
+                        && RoundOutcome.playerCards(outcome) == 3 ? 25 : -1;
+            default:
+                throw new AssertionError(this);
+        }
+    }
+
+    /**
+     * Settles a bet in cents.
+     *
+     * @param outcome The packed outcome of the round.
+     * @param betCents The amount wagered, in cents.
+     * @return The cents won (positive), lost (negative), or zero for a push.
+     */
+    public long settleCents(int outcome, long betCents) {
+        return settle(outcome) * betCents;
+    }
+
+    // Dragon Bonus: a natural win pays 1 to 1 and a natural draw pushes; otherwise it pays by the winning margin
+    private static int dragonBonus(int outcome, int side) {
+        int winner = RoundOutcome.winner(outcome);
+        if (RoundOutcome.isNatural(outcome)) {
+            return winner == side ? 1 : winner == BetBook.DRAW ? 0 : -1;
+        }
+        return winner == side ? DRAGON_BONUS_BY_MARGIN[RoundOutcome.margin(outcome)] : -1;
+    }
+}
@@ -0,0 +1,72 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Fast, non-cryptographic SplitMix64 generator for simulation.
+ * Its whole state is one long, which can be read and restored so a shoe's shuffles can be replayed exactly.
+ * Not thread safe; give each dealer its own instance.
+ */
+public final class SplitMix64Random implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Constructs a generator from a seed.
+     *
+     * @param seed The initial state.
+     */
+    public SplitMix64Random(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns an unbiased int from 0 (inclusive) to bound (exclusive), using a multiply in place of a division.
+     *
+     * @param bound The upper bound, which must be positive.
+     * @return The random int.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long product = (nextLong() >>> 32) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextLong() >>> 32) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Returns the current state, from which {@link #setState(long)} continues the same sequence.
+     *
+     * @return The state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state returned by {@link #getState()}.
+     *
+     * @param state The state.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,26 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strip shuffle: small packets are pulled off the top of the cards and stacked, reversing the order of the
+ * packets while each packet keeps its own order.
+ */
+public final class StripShuffle implements ShuffleStrategy {
+    // Packet sizes are drawn uniformly from 1 to this many cards
+    private static final int MAX_PACKET = 10;
+
+    @Override
+    public void shuffle(byte[] cards, int from, int to, RandomGenerator random) {
+        byte[] source = new byte[to - from];
+        System.arraycopy(cards, from, source, 0, source.length);
+        int taken = 0;
+        int bottom = to; // The new pile grows from the end, so the first packet ends up at the bottom
+        while (taken < source.length) {
+            int packet = Math.min(1 + random.nextInt(MAX_PACKET), source.length - taken);
+            bottom -= packet;
+            System.arraycopy(source, taken, cards, bottom, packet);
+            taken += packet;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package baccarat;
+
+/**
+ * The four suites of a standard deck.
+ * Each suite keeps its display name, so the name strings are created once rather than per card.
+ */
+public enum Suit {
+    HEARTS("Hearts"),
+    DIAMONDS("Diamonds"),
+    CLUBS("Clubs"),
+    SPADES("Spades");
+
+    private static final Suit[] VALUES = values();
+
+    private final String displayName;
+
+    Suit(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the display name of the suite.
+     *
+     * @return The name used by Card, like "Hearts".
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the suite at the given position in declaration order, without copying the values array.
+     *
+     * @param ordinal The position of the suite, 0 through 3.
+     * @return The suite.
+     */
+    public static Suit of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Looks up a suite by its display name.
+     *
+     * @param displayName The name of the suite, like "Spades".
+     * @return The matching suite.
+     * @throws IllegalArgumentException If no suite has that name.
+     */
+    public static Suit fromDisplayName(String displayName) {
+        for (Suit suit : VALUES) {
+            if (suit.displayName.equals(displayName)) {
+                return suit;
+            }
+        }
+        throw new IllegalArgumentException("Unknown suite: " + displayName);
+    }
+}
@@ -0,0 +1,288 @@
+package baccarat;
+
+import java.lang.System.Logger.Level;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process API for hosting many independent tables and the player sessions betting at them.
+ *
+ * Tables and sessions live in concurrent maps, so opening, closing and looking them up takes no global lock.
+ * Every table plays a round at a fixed interval on a shared scheduler; the scheduler never runs the same table's
+ * task twice at once, so a table's state stays confined to one thread at a time.
+ * Each table's next shoe is shuffled ahead of time on a separate thread, so changing shoes does not hold up a round.
+ */
+public final class TableManager implements AutoCloseable {
+    private static final System.Logger LOG = System.getLogger(TableManager.class.getName());
+    private static final int EVENT_BUFFER = 1024; // Events buffered per subscriber before they are dropped for it
+
+    // Table ids are unique across every manager in the process, so tables of different managers never share their
+    // metrics or their id in a shared journal; the desktop game's Metrics.LOCAL_TABLE is 0 and never handed out
+    private static final AtomicInteger NEXT_TABLE_ID = new AtomicInteger(1);
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService shuffler; // Prepares the next shoe of every table
+    private final long roundIntervalMillis;
+    private final RuleSet rules;
+    private final RoundJournal journal; // Shared by every table, which append to it without locking; or null
+    private final RoundEventPublisher events = new RoundEventPublisher(EVENT_BUFFER); // Rounds of every table
+
+    private final Map<Integer, OpenTable> tables = new ConcurrentHashMap<>();
+    private final Map<Long, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+
+    /**
+     * Constructs a manager.
+     *
+     * @param threads The number of scheduler threads playing rounds.
+     * @param roundIntervalMillis The time between the rounds of each table.
+     * @param numDecks The number of decks in each table's shoe.
+     */
+    public TableManager(int threads, long roundIntervalMillis, int numDecks) {
+        this(threads, roundIntervalMillis, numDecks, null);
+    }
+
+    /**
+     * Constructs a manager whose tables record every round they play.
+     * The journal stays open when the manager is closed.
+     *
+     * @param threads The number of scheduler threads playing rounds.
+     * @param roundIntervalMillis The time between the rounds of each table.
+     * @param numDecks The number of decks in each table's shoe.
+     * @param journal The journal the rounds of every table are appended to, or null to not record them.
+     */
+    public TableManager(int threads, long roundIntervalMillis, int numDecks, RoundJournal journal) {
+        this(threads, roundIntervalMillis, RuleSet.STANDARD.withDecks(numDecks), journal);
+    }
+
+    /**
+     * Constructs a manager whose tables play by a rule set and record every round they play.
+     * The journal stays open when the manager is closed.
+     *
+     * @param threads The number of scheduler threads playing rounds.
+     * @param roundIntervalMillis The time between the rounds of each table.
+     * @param rules The rules every table plays by, including the number of decks in each shoe.
+     * @param journal The journal the rounds of every table are appended to, or null to not record them.
+     */
+    public TableManager(int threads, long roundIntervalMillis, RuleSet rules, RoundJournal journal) {
+        this.scheduler = Executors.newScheduledThreadPool(threads);
+        this.shuffler = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shoe-shuffler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.roundIntervalMillis = roundIntervalMillis;
+        this.rules = rules;
+        this.journal = journal;
+    }
+
+    /**
+     * Opens a table with a freshly shuffled shoe and starts playing rounds on it.
+     *
+     * @return The id of the new table, unique among the tables of every manager.
+     */
+    public int openTable() {
+        int id = NEXT_TABLE_ID.getAndIncrement();
+        return openTable(id, new BaccaratDealer(rules.getNumDecks(), new SecureRandom(),
+                Metrics.timed(FisherYatesShuffle.INSTANCE, id)));
+    }
+
+    /**
+     * Opens a table that carries on with a saved shoe, e.g. after a restart, and starts playing rounds on it.
+     *
+     * @param dealerSnapshot A snapshot from the checkpoint of a table's dealer.
+     * @return The id of the new table, unique among the tables of every manager.
+     * @throws IllegalArgumentException If the snapshot is not a valid dealer snapshot.
+     */
+    public int restoreTable(byte[] dealerSnapshot) {
+        int id = NEXT_TABLE_ID.getAndIncrement();
+        return openTable(id, DealerCheckpoint.restore(dealerSnapshot, new SecureRandom(),
+                Metrics.timed(FisherYatesShuffle.INSTANCE, id)));
+    }
+
+    // Opens a table dealing from the given dealer
+    private int openTable(int id, BaccaratDealer dealer) {
+        dealer.prepareShoesInBackground(shuffler);
+        BaccaratTable table = new BaccaratTable(id, dealer, rules, journal, events);
+        ScheduledFuture<?> rounds = scheduler.scheduleAtFixedRate(() -> playRound(id, table),
+                roundIntervalMillis, roundIntervalMillis, TimeUnit.MILLISECONDS);
+        tables.put(id, new OpenTable(table, rounds));
+        return id;
+    }
+
+    // Plays a round of a table; a round that fails closes its table, whose bets would otherwise wait forever
+    private void playRound(int id, BaccaratTable table) {
+        try {
+            table.playRound();
+        } catch (RuntimeException e) {
+            LOG.log(Level.ERROR, "Closing table " + id + " after a failed round", e);
+            closeTable(id);
+        }
+    }
+
+    /**
+     * Stops a table and refunds the bets waiting on its next round.
+     *
+     * @param tableId The table to close.
+     */
+    public void closeTable(int tableId) {
+        OpenTable open = tables.remove(tableId);
+        if (open != null) {
+            open.rounds.cancel(false);
+            open.table.close();
+            if (Metrics.ENABLED) {
+                Metrics.remove(tableId);
+            }
+        }
+    }
+
+    /**
+     * Opens a player session.
+     *
+     * @param bankrollCents The starting bankroll, in cents.
+     * @return The id of the new session.
+     */
+    public long openSession(long bankrollCents) {
+        long id = nextSessionId.getAndIncrement();
+        sessions.put(id, new PlayerSession(id, bankrollCents));
+        return id;
+    }
+
+    /**
+     * Looks up a session.
+     *
+     * @param sessionId The session id.
+     * @return The session, or null if there is none with that id.
+     */
+    public PlayerSession getSession(long sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Places a bet for a session on the next round of a table.
+     *
+     * @param sessionId The session placing the bet.
+     * @param tableId The table to bet at.
+     * @param betChoice The side bet on.
+     * @param amount The amount wagered, in cents.
+     * @return A future completed when the round is settled, or failed if the bet could not be placed.
+     */
+    public CompletableFuture<BetResult> placeBet(long sessionId, int tableId, BetType betChoice, long amount) {
+        PlayerSession session = sessions.get(sessionId);
+        OpenTable open = tables.get(tableId);
+        if (session == null || open == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    session == null ? "No session " + sessionId : "No table " + tableId));
+        }
+        return open.table.placeBet(session, betChoice, amount);
+    }
+
+    /**
+     * Returns a snapshot of a table's dealer as it was after the table's last round.
+     *
+     * @param tableId The table.
+     * @return The snapshot, or null if there is no table with that id.
+     */
+    public byte[] getDealerSnapshot(int tableId) {
+        OpenTable open = tables.get(tableId);
+        return open == null ? null : open.table.getCheckpoint().toByteArray();
+    }
+
+    /**
+     * Returns a snapshot of a table's scoreboard for its current shoe.
+     *
+     * @param tableId The table.
+     * @return The snapshot, or null if there is no table with that id.
+     */
+    public Scoreboard.Snapshot getScoreboard(int tableId) {
+        OpenTable open = tables.get(tableId);
+        return open == null ? null : open.table.getScoreboard().snapshot();
+    }
+
+    /**
+     * Returns the estimated odds and bet EVs of a table's next round.
+     *
+     * @param tableId The table.
+     * @return The odds, or null if there is no table with that id.
+     */
+    public BaccaratOdds getLiveOdds(int tableId) {
+        OpenTable open = tables.get(tableId);
+        return open == null ? null : open.table.getLiveOdds();
+    }
+
+    /**
+     * Returns the number of open tables.
+     *
+     * @return The table count.
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Returns the total number of rounds played by the open tables.
+     *
+     * @return The round count.
+     */
+    public long getRoundsPlayed() {
+        long rounds = 0;
+        for (OpenTable open : tables.values()) {
+            rounds += open.table.getRoundsPlayed();
+        }
+        return rounds;
+    }
+
+    /**
+     * Subscribes to the events of every round played at any table from now on. Events are offered without waiting,
+     * so a subscriber that falls more than its buffer behind misses events rather than slowing the tables down.
+     *
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(Flow.Subscriber<? super RoundEvent> subscriber) {
+        events.subscribe(subscriber);
+    }
+
+    /**
+     * Returns the publisher of the tables' round events, e.g. to count the events dropped for slow subscribers.
+     *
+     * @return The publisher.
+     */
+    public RoundEventPublisher getEvents() {
+        return events;
+    }
+
+    /**
+     * Closes every table, refunding waiting bets, stops the scheduler and the shuffler, and completes every
+     * subscriber to the round events.
+     */
+    @Override
+    public void close() {
+        for (Integer tableId : tables.keySet()) {
+            closeTable(tableId);
+        }
+        scheduler.shutdown();
+        shuffler.shutdown();
+        events.close();
+    }
+
+    // A table together with its scheduled rounds
+    private static final class OpenTable {
+        final BaccaratTable table;
+        final ScheduledFuture<?> rounds;
+
+        OpenTable(BaccaratTable table, ScheduledFuture<?> rounds) {
+            this.table = table;
+            this.rounds = rounds;
+        }
+    }
+}
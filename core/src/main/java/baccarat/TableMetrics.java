@@ -0,0 +1,184 @@
+package baccarat;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms for one table: rounds, round latency, shuffle time, settlement batches and shoe changes.
+ * Every update is lock-free, so the table's thread, the shuffler and any number of readers never wait on each other.
+ * Instances are created and looked up through {@link Metrics}; the code that plays rounds only records into them
+ * when {@link Metrics#ENABLED} is set.
+ */
+public final class TableMetrics implements TableMetricsMBean {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int tableId;
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder shoeChanges = new LongAdder();
+    private final LongAdder betsSettled = new LongAdder();
+    private final LogHistogram roundLatency = new LogHistogram(); // Nanoseconds
+    private final LogHistogram shuffleTime = new LogHistogram(); // Nanoseconds
+    private final LogHistogram settlementLatency = new LogHistogram(); // Nanoseconds
+    private final LogHistogram settlementBatchSize = new LogHistogram(); // Bets
+
+    // The round rate is measured between reads at least a second apart
+    private long rateRounds;
+    private long rateNanos = System.nanoTime();
+    private double roundsPerSecond;
+
+    TableMetrics(int tableId) {
+        this.tableId = tableId;
+    }
+
+    /**
+     * Records a round played.
+     *
+     * @param nanos The time taken to resolve it.
+     */
+    public void recordRound(long nanos) {
+        rounds.increment();
+        roundLatency.record(nanos);
+    }
+
+    /**
+     * Records a shuffle of a shoe.
+     *
+     * @param nanos The time taken.
+     */
+    public void recordShuffle(long nanos) {
+        shuffleTime.record(nanos);
+    }
+
+    /**
+     * Records the table starting a new shoe.
+     */
+    public void recordShoeChange() {
+        shoeChanges.increment();
+    }
+
+    /**
+     * Records the settlement of every bet on a round.
+     *
+     * @param bets The number of bets settled.
+     * @param nanos The time from the round being resolved to every result being handed back, journal included.
+     */
+    public void recordSettlement(int bets, long nanos) {
+        betsSettled.add(bets);
+        settlementBatchSize.record(bets);
+        settlementLatency.record(nanos);
+    }
+
+    /**
+     * Returns the histogram of round resolution times.
+     *
+     * @return The histogram, in nanoseconds.
+     */
+    public LogHistogram getRoundLatency() {
+        return roundLatency;
+    }
+
+    /**
+     * Returns the histogram of shuffle times.
+     *
+     * @return The histogram, in nanoseconds.
+     */
+    public LogHistogram getShuffleTime() {
+        return shuffleTime;
+    }
+
+    /**
+     * Returns the histogram of settlement times.
+     *
+     * @return The histogram, in nanoseconds.
+     */
+    public LogHistogram getSettlementLatency() {
+        return settlementLatency;
+    }
+
+    /**
+     * Returns the histogram of the number of bets settled per round.
+     *
+     * @return The histogram, in bets.
+     */
+    public LogHistogram getSettlementBatchSize() {
+        return settlementBatchSize;
+    }
+
+    @Override
+    public int getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    /**
+     * Returns the rounds played per second since the previous measurement, which is taken again once a second has
+     * passed, so frequent reads see the same rate.
+     *
+     * @return The round rate.
+     */
+    @Override
+    public synchronized double getRoundsPerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - rateNanos;
+        if (elapsed >= NANOS_PER_SECOND) {
+            long total = rounds.sum();
+            roundsPerSecond = (double) (total - rateRounds) * NANOS_PER_SECOND / elapsed;
+            rateRounds = total;
+            rateNanos = now;
+        }
+        return roundsPerSecond;
+    }
+
+    @Override
+    public long getRoundLatencyP50Micros() {
+        return roundLatency.getValueAtPercentile(50) / 1000;
+    }
+
+    @Override
+    public long getRoundLatencyP99Micros() {
+        return roundLatency.getValueAtPercentile(99) / 1000;
+    }
+
+    @Override
+    public long getRoundLatencyMaxMicros() {
+        return roundLatency.getMax() / 1000;
+    }
+
+    @Override
+    public long getShuffles() {
+        return shuffleTime.getCount();
+    }
+
+    @Override
+    public long getShuffleP99Micros() {
+        return shuffleTime.getValueAtPercentile(99) / 1000;
+    }
+
+    @Override
+    public long getShoeChanges() {
+        return shoeChanges.sum();
+    }
+
+    @Override
+    public long getSettlements() {
+        return settlementLatency.getCount();
+    }
+
+    @Override
+    public long getBetsSettled() {
+        return betsSettled.sum();
+    }
+
+    @Override
+    public long getSettlementP99Micros() {
+        return settlementLatency.getValueAtPercentile(99) / 1000;
+    }
+
+    @Override
+    public double getMeanSettlementBatchSize() {
+        return settlementBatchSize.getMean();
+    }
+}
@@ -0,0 +1,34 @@
+package baccarat;
+
+/**
+ * The JMX view of one table's {@link TableMetrics}, registered as {@code baccarat:type=Table,id=<table id>}.
+ * Times are in microseconds.
+ */
+public interface TableMetricsMBean {
+
+    int getTableId();
+
+    long getRounds();
+
+    double getRoundsPerSecond();
+
+    long getRoundLatencyP50Micros();
+
+    long getRoundLatencyP99Micros();
+
+    long getRoundLatencyMaxMicros();
+
+    long getShuffles();
+
+    long getShuffleP99Micros();
+
+    long getShoeChanges();
+
+    long getSettlements();
+
+    long getBetsSettled();
+
+    long getSettlementP99Micros();
+
+    double getMeanSettlementBatchSize();
+}
@@ -0,0 +1,160 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+class BaccaratDealerTest {
+    BaccaratDealer dealer;
+
+    @BeforeEach
+    void setUp() {
+        // Before each test, create a new BaccaratDealer instance with 6 decks.
+        // This ensures that each test starts with a fresh deck state.
+        dealer = new BaccaratDealer(6);
+    }
+
+    @Test
+    void testDeckSizeAfterGeneration() {
+        // Verify that the total number of cards in the deck is correct after initialization.
+        // Since there are 52 cards in a standard deck, 6 decks should total 312 cards.
+        assertEquals(312, dealer.getDeckSize(), "Deck should have 312 cards for 6 standard decks");
+    }
+
+    @Test
+    void testShuffleDeck() {
+        // Test whether shuffling the deck maintains its size.
+        // This is to ensure that shuffling does not inadvertently add or remove cards.
+        dealer.shuffleDeck();
+        assertEquals(312, dealer.getDeckSize(), "Deck size should remain constant after shuffling");
+    }
+
+    @Test
+    void testBurnCards() {
+        // Test the burnCards method, which removes a certain number of cards from the top of the deck.
+        // This method simulates the 'burning' of cards as done in many card games before dealing.
+        // The test checks if the deck size has reduced after burning cards.
+        int initialDeckSize = dealer.getDeckSize();
+        dealer.burnCards();
+        assertTrue(dealer.getDeckSize() < initialDeckSize, "Deck size should decrease after burning cards");
+    }
+
+    @Test
+    void testDealHand() {
+        // Test the dealHand method, which should give a hand of 2 cards.
+        // This test also checks if dealing a hand correctly reduces the deck's size by 2.
+        ArrayList<Card> hand = dealer.dealHand();
+        assertEquals(2, hand.size(), "A dealt hand should have 2 cards");
+        assertEquals(310, dealer.getDeckSize(), "Deck size should decrease by 2 cards after dealing a hand");
+    }
+
+    @Test
+    void testDrawOne() {
+        // Test the drawOne method, which should take one card from the deck.
+        // This test checks that the drawn card is not null and that the deck size is reduced by 1.
+        Card drawnCard = dealer.drawOne();
+        assertNotNull(drawnCard, "Drawn card should not be null");
+        assertEquals(311, dealer.getDeckSize(), "Deck size should decrease by 1 after drawing a card");
+    }
+
+    @Test
+    void testUniqueCardsInDeck() {
+        // This test checks for the uniqueness of the cards in the deck.
+        // It draws all cards from the deck, adding them to a Set (which does not allow duplicates).
+        // If the Set size equals the initial deck size, it confirms all cards were unique.
+        Set<Card> drawnCards = new HashSet<>();
+        while (dealer.getDeckSize() > 0) {
+            Card card = dealer.drawOne();
+            if (card != null) {
+                drawnCards.add(card);
+            }
+        }
+        assertEquals(312, drawnCards.size(), "All cards in the deck should be unique and total 312 for 6 decks");
+    }
+
+    @Test
+    void testDrawCode() {
+        // Test the drawCode method, which deals the next card as a code without creating a Card.
+        // Drawing every card should give each of the 52 codes exactly once per deck.
+        int[] counts = new int[Card.CODES];
+        while (dealer.getDeckSize() > 0) {
+            counts[dealer.drawCode()]++;
+        }
+        for (int count : counts) {
+            assertEquals(6, count, "Each card should appear once in each of the 6 decks");
+        }
+        assertEquals(-1, dealer.drawCode(), "Drawing from an empty deck should return -1");
+    }
+
+    @Test
+    void testReshuffle() {
+        // Test that reshuffling a partly dealt shoe puts every card back.
+        // The deck should be full again and still hold each card once per deck.
+        dealer.dealHand();
+        dealer.burnCards();
+        dealer.reshuffle();
+        assertEquals(312, dealer.getDeckSize(), "Reshuffled deck should have all 312 cards");
+        int[] counts = new int[Card.CODES];
+        while (dealer.getDeckSize() > 0) {
+            counts[dealer.drawCode()]++;
+        }
+        for (int count : counts) {
+            assertEquals(6, count, "Each card should appear once in each of the 6 decks");
+        }
+    }
+
+    @Test
+    void testReset() {
+        // Test that reset puts the dealt cards back in the same order, so the same cards are dealt again.
+        int first = dealer.drawCode();
+        int second = dealer.drawCode();
+        dealer.reset();
+        assertEquals(312, dealer.getDeckSize(), "Reset deck should have all 312 cards");
+        assertEquals(first, dealer.drawCode(), "Reset should deal the same first card");
+        assertEquals(second, dealer.drawCode(), "Reset should deal the same second card");
+    }
+
+    @Test
+    void testRankCounts() {
+        // Test that the rank counts follow every card dealt or burnt, and come back with a reshuffle.
+        dealer.burnCards();
+        dealer.dealHand();
+        int drawn = dealer.drawCode();
+        int[] counts = new int[13];
+        dealer.getRankCounts(counts);
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        assertEquals(dealer.getDeckSize(), total, "Rank counts should add up to the cards left");
+        assertTrue(counts[Card.valueOf(drawn) - 1] < 24, "The drawn card's rank should have one fewer left");
+
+        dealer.reshuffle();
+        dealer.getRankCounts(counts);
+        for (int count : counts) {
+            assertEquals(24, count, "A reshuffled 6 deck shoe should hold 24 cards of each rank");
+        }
+    }
+
+    @Test
+    void testBackgroundShoe() {
+        // Test that a shoe prepared in the background is a full, fresh shoe, and that the dealer keeps preparing them.
+        dealer.prepareShoesInBackground(Runnable::run); // Runs the shuffle straight away, so the test is deterministic
+        for (int shoe = 0; shoe < 3; shoe++) {
+            long shoeNumber = dealer.getShoeNumber();
+            long shuffles = dealer.getShuffleCount();
+            dealer.startRound();
+            dealer.dealHand();
+            dealer.nextShoe(6);
+            assertEquals(shoeNumber + 1, dealer.getShoeNumber(), "Swapping in the prepared shoe starts a new shoe");
+            assertEquals(shuffles + 1, dealer.getShuffleCount(), "The prepared shoe counts as a shuffle");
+            assertEquals(0, dealer.getRoundNumber(), "A new shoe has no rounds yet");
+            assertEquals(312, dealer.getDeckSize(), "The prepared shoe should be full");
+        }
+        dealer.nextShoe(1);
+        assertEquals(52, dealer.getDeckSize(), "A different shoe size is shuffled on the spot");
+    }
+}
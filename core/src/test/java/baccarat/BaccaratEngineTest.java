@@ -0,0 +1,62 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+
+class BaccaratEngineTest {
+    final BaccaratGameLogic logic = new BaccaratGameLogic();
+
+    /**
+     * Plays many rounds and checks every result is consistent with the Baccarat rules in BaccaratGameLogic.
+     * This also runs through several shoes, so it covers the engine starting a new shoe when the old one runs low.
+     */
+    @Test
+    void testRoundsFollowRules() {
+        BaccaratEngine engine = new BaccaratEngine(6);
+        for (int i = 0; i < 1000; i++) {
+            RoundResult round = engine.playRound();
+            assertEquals(logic.handTotal(new ArrayList<>(round.getPlayerHand())), round.getPlayerTotal(), "Player total should match the hand");
+            assertEquals(logic.handTotal(new ArrayList<>(round.getBankerHand())), round.getBankerTotal(), "Banker total should match the hand");
+            if (round.isNatural()) {
+                assertEquals(2, round.getPlayerHand().size(), "No cards are drawn after a natural");
+                assertEquals(2, round.getBankerHand().size(), "No cards are drawn after a natural");
+            }
+            assertTrue(round.getPlayerHand().size() <= 3 && round.getBankerHand().size() <= 3, "A hand holds at most three cards");
+        }
+    }
+
+    /**
+     * Tests that the result cannot be modified once the round is resolved.
+     */
+    @Test
+    void testResultIsImmutable() {
+        RoundResult round = new BaccaratEngine(6).playRound();
+        assertThrows(UnsupportedOperationException.class, () -> round.getPlayerHand().clear(), "Hands in a result should be read-only");
+    }
+
+    /**
+     * Tests that only the first round of a shoe burns, and that a new shoe starts once the cut card has come out.
+     */
+    @Test
+    void testShoeLifecycle() {
+        BaccaratDealer dealer = BaccaratDealer.forSimulation(6, 7);
+        BaccaratEngine engine = new BaccaratEngine(dealer, RuleSet.STANDARD);
+        engine.playHands();
+        int burnt = 312 - dealer.getDeckSize() - engine.getPlayerHand().size() - engine.getBankerHand().size();
+        assertTrue(burnt >= 2 && burnt <= 11, "The first round of a shoe burns the first card and its value");
+
+        long shoe = dealer.getShoeNumber();
+        while (!RuleSet.STANDARD.isShoeFinished(dealer.getDeckSize())) {
+            int before = dealer.getDeckSize();
+            engine.playHands();
+            assertEquals(before - engine.getPlayerHand().size() - engine.getBankerHand().size(), dealer.getDeckSize(),
+                    "Later rounds burn nothing");
+            assertEquals(shoe, dealer.getShoeNumber(), "No new shoe before the cut card");
+        }
+        assertTrue(dealer.getDeckSize() >= RuleSet.STANDARD.getCutCard() - 6, "Rounds stop soon after the cut card");
+        engine.playHands();
+        assertEquals(shoe + 1, dealer.getShoeNumber(), "The round after the cut card starts a new shoe");
+        assertEquals(1, dealer.getRoundNumber(), "It is the first round of the new shoe");
+    }
+}
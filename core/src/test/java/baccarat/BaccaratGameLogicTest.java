@@ -0,0 +1,130 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class BaccaratGameLogicTest {
+    final BaccaratGameLogic logic = new BaccaratGameLogic();
+
+    /**
+     * Tests the handTotal method to ensure it correctly calculates the total value of a Baccarat hand.
+     * In this test, the hand consists of an Ace (value 1) and a 9, which should total 0 in Baccarat.
+     */
+    @Test
+    void testHandTotal() {
+        ArrayList<Card> hand = new ArrayList<>(Arrays.asList(new Card("Hearts", 1), new Card("Diamonds", 9)));
+        assertEquals(0, logic.handTotal(hand), "Hand total should be 0 (Ace + 9)");
+    }
+
+    /**
+     * Tests the whoWon method. In this scenario, the player's hand (total of 5) should beat the banker's hand (total of 4).
+     * The player's hand consists of 2 and 3, while the banker's hand has 10 (value 0) and 4.
+     */
+    @Test
+    void testWhoWon() {
+        ArrayList<Card> playerHand = new ArrayList<>(Arrays.asList(new Card("Hearts", 2), new Card("Diamonds", 3)));
+        ArrayList<Card> bankerHand = new ArrayList<>(Arrays.asList(new Card("Spades", 10), new Card("Clubs", 4)));
+        assertEquals(Outcome.PLAYER, logic.whoWon(playerHand, bankerHand), "Player should win with a total of 5 against 4");
+    }
+
+    /**
+     * Tests the evaluatePlayerDraw method to confirm the player will draw a card with a hand total of 5 or less.
+     * Here, the player's hand has a total of 5 (2 and 3), so they should draw another card.
+     */
+    @Test
+    void testEvaluatePlayerDrawWithFiveOrLess() {
+        ArrayList<Card> hand = new ArrayList<>(Arrays.asList(new Card("Hearts", 2), new Card("Clubs", 3)));
+        assertTrue(logic.evaluatePlayerDraw(hand), "Player should draw with a total of 5 or less");
+    }
+
+    /**
+     * Tests the evaluatePlayerDraw method to ensure the player does not draw a card when their hand total is more than 5.
+     * In this test, the player's hand totals 1 (7 and 4, since only the last digit of the sum counts), so they should still draw.
+     */
+    @Test
+    void testEvaluatePlayerDrawWithMoreThanFive() {
+        ArrayList<Card> hand = new ArrayList<>(Arrays.asList(new Card("Hearts", 7), new Card("Clubs", 4)));
+        assertTrue(logic.evaluatePlayerDraw(hand), "Player should draw with a total of 1");
+    }
+
+    /**
+     * Tests that the Hand overloads agree with the ArrayList methods for every pair of two card hands and
+     * every player third card, so both ways of playing a round follow the same rules.
+     */
+    @Test
+    void testHandOverloadsMatchListMethods() {
+        for (int a = 1; a <= 13; a++) {
+            for (int b = 1; b <= 13; b++) {
+                ArrayList<Card> list = new ArrayList<>(Arrays.asList(new Card("Hearts", a), new Card("Clubs", b)));
+                Hand hand = new Hand();
+                hand.add(Card.code(Suit.HEARTS, a));
+                hand.add(Card.code(Suit.CLUBS, b));
+                assertEquals(logic.handTotal(list), logic.handTotal(hand), "Totals should match");
+                assertEquals(logic.evaluatePlayerDraw(list), logic.evaluatePlayerDraw(hand), "Player draw should match");
+                assertEquals(logic.evaluateBankerDraw(list, null), logic.evaluateBankerDraw(hand, -1), "Banker draw should match");
+                for (int third = 1; third <= 13; third++) {
+                    assertEquals(logic.evaluateBankerDraw(list, new Card("Spades", third)),
+                            logic.evaluateBankerDraw(hand, Card.code(Suit.SPADES, third)), "Banker draw should match");
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks every entry of the precomputed banker table against the standard drawing tableau,
+     * written out here as the usual rule-by-rule description.
+     */
+    @Test
+    void testBankerTableMatchesTableau() {
+        for (int bankerTotal = 0; bankerTotal <= 9; bankerTotal++) {
+            for (int third = -1; third <= 9; third++) {
+                boolean expected;
+                if (bankerTotal <= 2) {
+                    expected = true;
+                } else if (bankerTotal >= 7) {
+                    expected = false;
+                } else if (third < 0) {
+                    expected = bankerTotal <= 5;
+                } else if (bankerTotal == 3) {
+                    expected = third != 8;
+                } else if (bankerTotal == 4) {
+                    expected = third >= 2 && third <= 7;
+                } else if (bankerTotal == 5) {
+                    expected = third >= 4 && third <= 7;
+                } else {
+                    expected = third == 6 || third == 7;
+                }
+                assertEquals(expected, BaccaratGameLogic.bankerDraws(bankerTotal, third),
+                        "Banker total " + bankerTotal + ", player third card " + third);
+            }
+        }
+    }
+
+    /**
+     * Tests that the round descriptor carries the totals, counts, flags and margin of the hands.
+     */
+    @Test
+    void testEvaluateRound() {
+        Hand player = new Hand();
+        player.add(Card.code(Suit.HEARTS, 3));
+        player.add(Card.code(Suit.CLUBS, 3));
+        player.add(Card.code(Suit.SPADES, 2));
+        Hand banker = new Hand();
+        banker.add(Card.code(Suit.DIAMONDS, 13));
+        banker.add(Card.code(Suit.HEARTS, 6));
+
+        int outcome = logic.evaluateRound(player, banker);
+        assertEquals(8, RoundOutcome.playerTotal(outcome));
+        assertEquals(6, RoundOutcome.bankerTotal(outcome));
+        assertEquals(3, RoundOutcome.playerCards(outcome));
+        assertEquals(2, RoundOutcome.bankerCards(outcome));
+        assertFalse(RoundOutcome.isNatural(outcome), "A three card 8 is not a natural");
+        assertTrue(RoundOutcome.isPlayerPair(outcome), "The player's first two cards are a pair of 3s");
+        assertFalse(RoundOutcome.isBankerPair(outcome));
+        assertEquals(BetBook.PLAYER, RoundOutcome.winner(outcome));
+        assertEquals(2, RoundOutcome.margin(outcome));
+        assertFalse(RoundOutcome.isBankerSix(outcome), "The banker lost with 6");
+    }
+}
@@ -0,0 +1,40 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class BaccaratOddsCalculatorTest {
+
+    /**
+     * Tests the calculator against the published exact odds for an 8 deck shoe:
+     * banker 0.458597, player 0.446247 and tie 0.095156.
+     */
+    @Test
+    void testEightDeckOdds() {
+        BaccaratOdds odds = BaccaratOddsCalculator.forDecks(8);
+        assertEquals(0.458597, odds.getBankerWin(), 1e-6, "Banker win probability for 8 decks");
+        assertEquals(0.446247, odds.getPlayerWin(), 1e-6, "Player win probability for 8 decks");
+        assertEquals(0.095156, odds.getDraw(), 1e-6, "Tie probability for 8 decks");
+        assertEquals(-0.012351, odds.getPlayerBetEv(), 1e-6, "Player bet house edge for 8 decks");
+        assertEquals(-0.010579, odds.getBankerBetEv(), 1e-6, "Banker bet house edge for 8 decks");
+    }
+
+    /**
+     * Tests that the probabilities of a partly dealt shoe still add up to one,
+     * and that counting by rank gives the same result as counting by point value.
+     */
+    @Test
+    void testDepletedShoe() {
+        int[] ranks = new int[13];
+        java.util.Arrays.fill(ranks, 4);
+        ranks[0] = 1; // Most of the aces are gone
+        ranks[8] = 0; // and every 9
+        BaccaratOdds odds = BaccaratOddsCalculator.fromRankCounts(ranks);
+        assertEquals(1.0, odds.getPlayerWin() + odds.getBankerWin() + odds.getDraw(), 1e-12, "Probabilities should sum to 1");
+
+        int[] points = {16, 1, 4, 4, 4, 4, 4, 4, 4, 0};
+        assertEquals(odds.getBankerWin(), BaccaratOddsCalculator.calculate(points).getBankerWin(), 1e-15, "Rank and point counts should agree");
+        assertEquals(BaccaratOddsCalculator.calculate(points, RuleSet.EZ).getBankerBetEv(),
+                BaccaratOddsCalculator.fromRankCounts(ranks, RuleSet.EZ).getBankerBetEv(), 1e-15, "Rank counts priced by the given rules");
+    }
+}
@@ -0,0 +1,69 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class BetBookTest {
+
+    /**
+     * Tests that settling the book pays each bet the same as RuleSet.payoutCents, for every winner and preset.
+     */
+    @Test
+    void testSettleMatchesPayout() {
+        BetType[] choices = BetType.values();
+        int[] outcomes = {
+            TestHands.outcome(new int[] {4, 5}, new int[] {3, 4}), // Player wins
+            TestHands.outcome(new int[] {2, 3}, new int[] {3, 3}), // Banker wins on 6
+            TestHands.outcome(new int[] {10, 2, 3}, new int[] {1, 2, 4}), // Banker wins with three cards on 7
+            TestHands.outcome(new int[] {2, 5}, new int[] {3, 4}), // Draw
+        };
+        for (RuleSet rules : new RuleSet[] {RuleSet.STANDARD, RuleSet.MACAU, RuleSet.NO_COMMISSION, RuleSet.EZ}) {
+            for (int outcome : outcomes) {
+                BetBook book = new BetBook(1, rules); // Small, so the arrays have to grow
+                for (int i = 0; i < 30; i++) {
+                    book.add(i, choices[i % 3].getCode(), i * 7 + 1); // Odd cent amounts exercise the rounding
+                }
+                book.settleRound(outcome);
+                for (int i = 0; i < book.size(); i++) {
+                    assertEquals(rules.payoutCents(choices[i % 3].getCode(), outcome, i * 7 + 1), book.getPayout(i),
+                            "Bet " + i + " on " + choices[i % 3] + " under " + rules.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the per-type totals, and that a cleared book starts again from nothing.
+     */
+    @Test
+    void testTotalsAndClear() {
+        BetBook book = new BetBook(4);
+        book.add(1, BetBook.BANKER, 10_000);
+        book.add(2, BetBook.BANKER, 10_000);
+        book.add(3, BetBook.PLAYER, 5_000);
+        book.settleRound(TestHands.outcome(new int[] {2, 3}, new int[] {4, 5})); // Banker wins on 9
+        assertEquals(20_000, book.getWagered(BetBook.BANKER), "Wagered on the banker");
+        assertEquals(19_000, book.getPaid(BetBook.BANKER), "Banker bets pay less 5% commission");
+        assertEquals(-5_000, book.getPaid(BetBook.PLAYER), "Player bets lose");
+        assertThrows(IllegalStateException.class, () -> book.add(4, BetBook.DRAW, 1), "Settled book takes no more bets");
+
+        book.clear();
+        assertEquals(0, book.size(), "Cleared book should be empty");
+        assertEquals(0, book.getWagered(BetBook.BANKER), "Cleared book should have no totals");
+        assertFalse(book.isSettled(), "Cleared book should take bets again");
+    }
+
+    /**
+     * Tests that bet types and outcomes share the book's codes, so either can index its arrays.
+     */
+    @Test
+    void testCodesMatch() {
+        int[] codes = {BetBook.PLAYER, BetBook.BANKER, BetBook.DRAW};
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals(codes[i], BetType.values()[i].getCode(), "Bet type code " + i);
+            assertEquals(codes[i], Outcome.values()[i].getCode(), "Outcome code " + i);
+            assertTrue(BetType.fromCode(codes[i]).winsOn(Outcome.fromCode(codes[i])), "Bet wins on its own outcome");
+        }
+        assertThrows(IllegalArgumentException.class, () -> Outcome.fromCode(3), "Unknown outcome code");
+    }
+}
@@ -1,3 +1,5 @@
+package baccarat;
+
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +70,30 @@ class CardTest {
         card = new Card("Hearts", 13); // King
         assertEquals("Hearts King", card.toString(), "toString should return 'Hearts King' for King of Hearts");
     }
+
+    /**
+     * Tests that every card code decodes back to the same card.
+     * This checks the code, valueOf, suitOf and fromCode methods against each other.
+     */
+    @Test
+    void testCodeRoundTrip() {
+        for (int code = 0; code < Card.CODES; code++) {
+            Card card = Card.fromCode(code);
+            assertEquals(code, card.getCode(), "Card should encode back to its code");
+            assertEquals(Card.valueOf(code), card.getValue(), "Value should match the code");
+            assertEquals(Card.suitOf(code).getDisplayName(), card.getSuite(), "Suite should match the code");
+        }
+    }
+
+    /**
+     * Tests the Baccarat point values of encoded cards.
+     * Aces are worth 1, number cards their number, and 10s and face cards are worth 0.
+     */
+    @Test
+    void testPointOf() {
+        assertEquals(1, Card.pointOf(Card.code(Suit.HEARTS, 1)), "Ace should be worth 1");
+        assertEquals(9, Card.pointOf(Card.code(Suit.CLUBS, 9)), "9 should be worth 9");
+        assertEquals(0, Card.pointOf(Card.code(Suit.SPADES, 10)), "10 should be worth 0");
+        assertEquals(0, Card.pointOf(Card.code(Suit.DIAMONDS, 13)), "King should be worth 0");
+    }
 }
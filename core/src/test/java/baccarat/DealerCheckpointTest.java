@@ -0,0 +1,103 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class DealerCheckpointTest {
+
+    /**
+     * Tests that a restored dealer deals exactly the rounds the original would have, across later shoes as well.
+     */
+    @Test
+    void testRestoredDealerContinuesTheShoe() {
+        BaccaratDealer dealer = BaccaratDealer.forSimulation(8, 11);
+        BaccaratEngine engine = new BaccaratEngine(dealer, 8);
+        DealerCheckpoint checkpoint = new DealerCheckpoint();
+        for (int i = 0; i < 25; i++) {
+            engine.playRound();
+            checkpoint.update(dealer);
+        }
+
+        BaccaratDealer restored = DealerCheckpoint.restore(checkpoint.toByteArray(), new SplitMix64Random(0), FisherYatesShuffle.INSTANCE);
+        assertEquals(dealer.getDeckSize(), restored.getDeckSize(), "Restored shoe should hold the same cards");
+        assertEquals(dealer.getShoeNumber(), restored.getShoeNumber());
+        assertEquals(dealer.getRoundNumber(), restored.getRoundNumber());
+
+        BaccaratEngine restoredEngine = new BaccaratEngine(restored, 8);
+        for (int i = 0; i < 200; i++) { // Long enough to run into a new shoe
+            assertEquals(engine.playRound().toString(), restoredEngine.playRound().toString(), "Round " + i + " should match");
+        }
+        assertEquals(dealer.getShoeNumber(), restored.getShoeNumber());
+    }
+
+    /**
+     * Tests that a dealer preparing its shoes in the background is restored without waiting on the shuffle, and that
+     * the restored dealer swaps in the same next shoe whether or not it prepares shoes in the background itself.
+     */
+    @Test
+    void testRestoredDealerPreparesTheSameShoes() {
+        ExecutorService shuffler = Executors.newSingleThreadExecutor();
+        try {
+            BaccaratDealer dealer = BaccaratDealer.forSimulation(8, 17);
+            dealer.prepareShoesInBackground(shuffler);
+            BaccaratEngine engine = new BaccaratEngine(dealer, 8);
+            DealerCheckpoint checkpoint = new DealerCheckpoint();
+            for (int i = 0; i < 100; i++) { // Into the second shoe, so the spare being prepared is a used one
+                engine.playRound();
+                checkpoint.update(dealer);
+            }
+            assertTrue(dealer.getShoeNumber() > 1, "The checkpoint should be taken after a change of shoes");
+
+            BaccaratDealer background = DealerCheckpoint.restore(checkpoint.toByteArray(), new SplitMix64Random(0), FisherYatesShuffle.INSTANCE);
+            background.prepareShoesInBackground(shuffler);
+            BaccaratDealer inline = DealerCheckpoint.restore(checkpoint.toByteArray(), new SplitMix64Random(0), FisherYatesShuffle.INSTANCE);
+            assertEquals(dealer.getShuffleCount(), inline.getShuffleCount(), "The shuffle count should be restored");
+
+            BaccaratEngine backgroundEngine = new BaccaratEngine(background, 8);
+            BaccaratEngine inlineEngine = new BaccaratEngine(inline, 8);
+            for (int i = 0; i < 300; i++) { // Long enough to run through several more shoes
+                String round = engine.playRound().toString();
+                assertEquals(round, backgroundEngine.playRound().toString(), "Round " + i + " should match");
+                assertEquals(round, inlineEngine.playRound().toString(), "Round " + i + " should match");
+            }
+            assertEquals(dealer.getShoeNumber(), inline.getShoeNumber());
+        } finally {
+            shuffler.shutdown();
+        }
+    }
+
+    /**
+     * Tests that rounds within a shoe are checkpointed by patching the saved image, not by taking new snapshots.
+     */
+    @Test
+    void testRoundsWithinAShoeAreIncremental() {
+        BaccaratDealer dealer = BaccaratDealer.forSimulation(6, 3);
+        BaccaratEngine engine = new BaccaratEngine(dealer, 6);
+        DealerCheckpoint checkpoint = new DealerCheckpoint();
+        checkpoint.update(dealer);
+        for (int i = 0; i < 10; i++) {
+            engine.playRound();
+            checkpoint.update(dealer);
+        }
+        assertEquals(1, checkpoint.getFullSnapshots(), "Only the first update should write the whole shoe");
+
+        dealer.reshuffle();
+        checkpoint.update(dealer);
+        assertEquals(2, checkpoint.getFullSnapshots(), "A shuffle should write the whole shoe again");
+    }
+
+    /**
+     * Tests that a snapshot whose cards are not whole decks is refused.
+     */
+    @Test
+    void testCorruptSnapshotIsRefused() {
+        DealerCheckpoint checkpoint = new DealerCheckpoint();
+        checkpoint.update(BaccaratDealer.forSimulation(1, 5));
+        byte[] snapshot = checkpoint.toByteArray();
+        snapshot[BaccaratDealer.SNAPSHOT_HEADER] = snapshot[BaccaratDealer.SNAPSHOT_HEADER + 1]; // Duplicate a card
+        assertThrows(IllegalArgumentException.class,
+                () -> DealerCheckpoint.restore(snapshot, new SplitMix64Random(0), FisherYatesShuffle.INSTANCE));
+    }
+}
@@ -0,0 +1,55 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class HandTest {
+
+    /**
+     * Tests that the hand keeps its Baccarat total up to date as cards are added.
+     * An Ace and a 9 total 0, and adding a King (worth 0) keeps it at 0.
+     */
+    @Test
+    void testIncrementalTotal() {
+        Hand hand = new Hand();
+        hand.add(Card.code(Suit.HEARTS, 1));
+        assertEquals(1, hand.total(), "Total should be 1 after an Ace");
+        hand.add(Card.code(Suit.DIAMONDS, 9));
+        assertEquals(0, hand.total(), "Total should be 0 (Ace + 9)");
+        hand.add(Card.code(Suit.SPADES, 13));
+        assertEquals(0, hand.total(), "A King should not change the total");
+        assertEquals(3, hand.size(), "Hand should hold three cards");
+    }
+
+    /**
+     * Tests that a hand refuses a fourth card and can be reused after clear.
+     */
+    @Test
+    void testCapacityAndClear() {
+        Hand hand = new Hand();
+        for (int i = 0; i < Hand.CAPACITY; i++) {
+            hand.add(Card.code(Suit.CLUBS, 2));
+        }
+        assertThrows(IllegalStateException.class, () -> hand.add(Card.code(Suit.CLUBS, 3)), "A hand holds at most three cards");
+        hand.clear();
+        assertEquals(0, hand.size(), "Cleared hand should be empty");
+        assertEquals(0, hand.total(), "Cleared hand should total 0");
+        assertEquals(-1, hand.thirdCard(), "Cleared hand has no third card");
+    }
+
+    /**
+     * Tests that a packed hand gives back the same cards in the same order.
+     */
+    @Test
+    void testPack() {
+        Hand hand = new Hand();
+        hand.add(Card.code(Suit.SPADES, 13));
+        hand.add(Card.code(Suit.HEARTS, 1));
+        hand.add(Card.code(Suit.DIAMONDS, 7));
+        int packed = hand.pack();
+        assertEquals(3, Hand.packedSize(packed), "Packed hand should hold three cards");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(hand.get(i), Hand.packedCard(packed, i), "Packed card should match the hand");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class LiveOddsEstimatorTest {
+
+    /**
+     * Tests that the estimate for a full shoe is the exact odds.
+     */
+    @Test
+    void testFullShoeIsExact() {
+        BaccaratOdds exact = BaccaratOddsCalculator.forDecks(8);
+        BaccaratOdds estimate = LiveOddsEstimator.forDecks(8).estimate(BaccaratDealer.forSimulation(8, 1));
+        assertEquals(exact.getBankerWin(), estimate.getBankerWin(), 1e-12);
+        assertEquals(exact.getDraw(), estimate.getDraw(), 1e-12);
+    }
+
+    /**
+     * Tests that the estimate for a full shoe is the exact odds and bet EVs under every built-in rule set, so
+     * variant payouts such as an 8 to 1 draw, a half paid banker 6 or a returned three card banker 7 are priced.
+     */
+    @Test
+    void testFullShoeIsExactForEveryRuleSet() {
+        for (RuleSet rules : new RuleSet[] {RuleSet.STANDARD, RuleSet.MACAU, RuleSet.NO_COMMISSION, RuleSet.EZ}) {
+            int[] fullShoe = new int[10];
+            fullShoe[0] = 16 * rules.getNumDecks();
+            for (int point = 1; point <= 9; point++) {
+                fullShoe[point] = 4 * rules.getNumDecks();
+            }
+            BaccaratOdds exact = BaccaratOddsCalculator.calculate(fullShoe, rules);
+            BaccaratOdds estimate = LiveOddsEstimator.forRules(rules).estimate(fullShoe);
+            assertEquals(exact.getPlayerWin(), estimate.getPlayerWin(), 1e-12, rules.getName());
+            assertEquals(exact.getBankerWin(), estimate.getBankerWin(), 1e-12, rules.getName());
+            assertEquals(exact.getDraw(), estimate.getDraw(), 1e-12, rules.getName());
+            assertEquals(exact.getPlayerBetEv(), estimate.getPlayerBetEv(), 1e-12, rules.getName());
+            assertEquals(exact.getBankerBetEv(), estimate.getBankerBetEv(), 1e-12, rules.getName());
+            assertEquals(exact.getDrawBetEv(), estimate.getDrawBetEv(), 1e-12, rules.getName());
+        }
+    }
+
+    /**
+     * Tests that the estimate stays close to the exact odds through the first half of a shoe.
+     */
+    @Test
+    void testEstimateTracksExactOdds() {
+        LiveOddsEstimator estimator = LiveOddsEstimator.forDecks(8);
+        BaccaratDealer dealer = BaccaratDealer.forSimulation(8, 7);
+        BaccaratEngine engine = new BaccaratEngine(dealer, 8);
+        int[] counts = new int[10];
+        for (int round = 0; round < 40; round++) {
+            engine.playHands();
+            if (round % 10 == 9) {
+                dealer.getPointCounts(counts);
+                BaccaratOdds exact = estimator.exact(counts);
+                BaccaratOdds estimate = estimator.estimate(counts);
+                assertEquals(exact.getBankerBetEv(), estimate.getBankerBetEv(), 0.002, "Banker EV after round " + round);
+                assertEquals(exact.getPlayerBetEv(), estimate.getPlayerBetEv(), 0.002, "Player EV after round " + round);
+                assertEquals(exact.getDraw(), estimate.getDraw(), 0.003, "Draw probability after round " + round);
+            }
+        }
+    }
+
+    /**
+     * Tests that the estimated EVs of a variant track its own exact EVs part way through a shoe.
+     */
+    @Test
+    void testVariantEstimateTracksExactOdds() {
+        for (RuleSet rules : new RuleSet[] {RuleSet.MACAU, RuleSet.NO_COMMISSION, RuleSet.EZ}) {
+            LiveOddsEstimator estimator = LiveOddsEstimator.forRules(rules);
+            BaccaratDealer dealer = BaccaratDealer.forSimulation(rules.getNumDecks(), 7);
+            BaccaratEngine engine = new BaccaratEngine(dealer, rules);
+            for (int round = 0; round < 30; round++) {
+                engine.playHands();
+            }
+            int[] counts = new int[10];
+            dealer.getPointCounts(counts);
+            BaccaratOdds exact = estimator.exact(counts);
+            BaccaratOdds estimate = estimator.estimate(counts);
+            assertEquals(exact.getBankerBetEv(), estimate.getBankerBetEv(), 0.002, rules.getName() + " banker EV");
+            assertEquals(exact.getDrawBetEv(), estimate.getDrawBetEv(), 0.03, rules.getName() + " draw EV");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import javax.management.ObjectName;
+
+class MetricsTest {
+
+    /**
+     * Tests that percentiles are within the histogram's 3% precision, and that the exact count, sum and maximum
+     * are kept.
+     */
+    @Test
+    void testHistogramPercentiles() {
+        LogHistogram histogram = new LogHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertEquals(100_000, histogram.getCount(), "Count");
+        assertEquals(100_000_000L, histogram.getMax(), "Maximum");
+        assertEquals(50_000_500.0, histogram.getMean(), 1e-6, "Mean");
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 * 0.03, "Median");
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 * 0.03, "p99");
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100), "p100 is the maximum");
+        for (long value : new long[] {0, 31, 32, 33, 1_000, 123_456_789, 1L << 40}) {
+            int bucket = LogHistogram.bucketOf(value);
+            assertTrue(LogHistogram.highestValueOf(bucket) >= value, "Bucket of " + value + " reaches it");
+            assertTrue(bucket == 0 || LogHistogram.highestValueOf(bucket - 1) < value, "Bucket of " + value + " starts after it");
+        }
+    }
+
+    /**
+     * Tests that a table's metrics are published through JMX and served as text over HTTP.
+     */
+    @Test
+    void testJmxAndScrape() throws Exception {
+        TableMetrics metrics = Metrics.forTable(9_001);
+        try {
+            metrics.recordRound(20_000);
+            metrics.recordRound(40_000);
+            metrics.recordShoeChange();
+            metrics.recordSettlement(3, 5_000);
+
+            ObjectName name = new ObjectName("baccarat:type=Table,id=9001");
+            assertEquals(2L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Rounds"), "Rounds through JMX");
+            assertEquals(3L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "BetsSettled"), "Bets through JMX");
+
+            try (MetricsServer server = MetricsServer.start(0)) {
+                URL url = new URL("http://localhost:" + server.getPort() + MetricsServer.PATH);
+                String text;
+                try (InputStream in = url.openStream()) {
+                    text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                assertTrue(text.contains("baccarat_rounds_total{table=\"9001\"} 2\n"), "Round counter");
+                assertTrue(text.contains("baccarat_shoe_changes_total{table=\"9001\"} 1\n"), "Shoe changes");
+                assertTrue(text.contains("baccarat_round_latency_seconds_count{table=\"9001\"} 2\n"), "Latency count");
+                assertTrue(text.contains("# TYPE baccarat_settlement_batch_size summary"), "Batch size summary");
+            }
+        } finally {
+            Metrics.remove(9_001);
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName("baccarat:type=Table,id=9001")),
+                "Removed metrics are unregistered");
+    }
+}
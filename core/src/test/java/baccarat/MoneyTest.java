@@ -0,0 +1,65 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    /**
+     * Tests parsing amounts with zero, one and two decimal places, and rejecting anything finer than a cent.
+     */
+    @Test
+    void testParse() {
+        assertEquals(1200, Money.parse("12"), "Whole amount");
+        assertEquals(1250, Money.parse("12.5"), "One decimal place");
+        assertEquals(1234, Money.parse(" 12.34 "), "Two decimal places, with spaces");
+        assertEquals(1230, Money.parse("12.300"), "Trailing zeros are fine");
+        assertThrows(NumberFormatException.class, () -> Money.parse("12.345"), "Fractions of a cent are rejected");
+        assertThrows(NumberFormatException.class, () -> Money.parse("abc"), "Text is rejected");
+    }
+
+    /**
+     * Tests formatting cents back into an amount.
+     */
+    @Test
+    void testFormat() {
+        assertEquals("12.34", Money.format(1234), "Positive amount");
+        assertEquals("0.05", Money.format(5), "Less than a unit");
+        assertEquals("-0.50", Money.format(-50), "Negative amount");
+    }
+
+    /**
+     * Tests that the commission rounds half up to the nearest cent.
+     */
+    @Test
+    void testCommissionRounding() {
+        assertEquals(50, Money.commission(1000, 500), "5% of 10.00 is exactly 0.50");
+        assertEquals(1, Money.commission(10, 500), "5% of 0.10 is 0.005, which rounds up");
+        assertEquals(0, Money.commission(9, 500), "5% of 0.09 is 0.0045, which rounds down");
+        Hand player = new Hand();
+        Hand banker = new Hand();
+        player.add(Card.code(Suit.HEARTS, 2));
+        player.add(Card.code(Suit.HEARTS, 3));
+        banker.add(Card.code(Suit.SPADES, 4));
+        banker.add(Card.code(Suit.SPADES, 5));
+        int bankerWin = RoundOutcome.of(player, banker);
+        assertEquals(950, RuleSet.STANDARD.payoutCents(BetBook.BANKER, bankerWin, 1000), "Banker win pays the stake less commission");
+    }
+
+    /**
+     * Tests that the ledger keeps every entry in order and its running balance.
+     */
+    @Test
+    void testLedger() {
+        Ledger ledger = new Ledger(1); // Small, so the array has to grow
+        ledger.post(Ledger.DEPOSIT, 0, 0, 10_000);
+        ledger.post(Ledger.BET, 7, 0, -1_000);
+        ledger.post(Ledger.SETTLEMENT, 7, 42, 1_950);
+        assertEquals(3, ledger.size(), "Ledger should hold three entries");
+        assertEquals(10_950, ledger.getBalance(), "Balance should be the sum of the entries");
+        assertEquals(Ledger.SETTLEMENT, ledger.getKind(2), "Kind of the last entry");
+        assertEquals(7, ledger.getTableId(2), "Table of the last entry");
+        assertEquals(42, ledger.getRound(2), "Round of the last entry");
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.getAmount(3), "There is no fourth entry");
+    }
+}
@@ -0,0 +1,92 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class RoundEventTest {
+
+    /**
+     * Tests that each round a table plays is published in order: the deal, a draw for each side that drew, the
+     * result and the settlement, showing one more card at each draw.
+     */
+    @Test
+    void testEventsOfEachRound() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<RoundEvent> received = new ArrayList<>();
+        List<RoundResult> played = new ArrayList<>();
+        RoundEventPublisher events = new RoundEventPublisher(executor, 1024);
+        try {
+            CompletableFuture<Void> done = events.subscribe(received::add);
+            BaccaratTable table = new BaccaratTable(3, new BaccaratDealer(8, new Random(7)), RuleSet.STANDARD, null, events);
+            for (int i = 0; i < 50; i++) {
+                played.add(table.playRound());
+            }
+            events.close();
+            done.get(5, TimeUnit.SECONDS); // Completes once everything buffered is delivered
+            assertEquals(0, events.getDropped(), "Nothing dropped with room to spare");
+        } finally {
+            events.close();
+            executor.shutdown();
+        }
+
+        int next = 0;
+        for (RoundResult round : played) {
+            List<RoundEvent.Type> expected = new ArrayList<>(List.of(RoundEvent.Type.CARDS_DEALT));
+            if (round.playerDrew()) {
+                expected.add(RoundEvent.Type.PLAYER_DRAW);
+            }
+            if (round.bankerDrew()) {
+                expected.add(RoundEvent.Type.BANKER_DRAW);
+            }
+            expected.add(RoundEvent.Type.RESULT);
+            expected.add(RoundEvent.Type.SETTLEMENT);
+            for (RoundEvent.Type type : expected) {
+                RoundEvent event = received.get(next++);
+                assertEquals(type, event.getType(), "Event " + next);
+                assertSame(round, event.getRound(), "Event " + next + " carries its round");
+                assertEquals(3, event.getTableId(), "Table id");
+            }
+            assertEquals(round.getPlayerHand().size(), received.get(next - 2).getPlayerCardsShown(), "Whole hand at the result");
+        }
+        assertEquals(received.size(), next, "No events besides the rounds'");
+    }
+
+    /**
+     * Tests that a subscriber that stops consuming loses events instead of holding up the table, and that with no
+     * subscribers nothing is published at all.
+     */
+    @Test
+    void testSlowSubscriberDropsEvents() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try (RoundEventPublisher events = new RoundEventPublisher(executor, 4)) {
+            BaccaratTable table = new BaccaratTable(1, new BaccaratDealer(8, new Random(1)), RuleSet.STANDARD, null, events);
+            table.playRound();
+            assertEquals(0, events.getDropped(), "Nothing to drop without subscribers");
+
+            events.subscribe(event -> {
+                try {
+                    release.await(); // Stuck, like a UI that never catches up
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 100; i++) {
+                table.playRound(); // Would hang here if publishing waited for room
+            }
+            assertTrue(events.getDropped() > 0, "Events beyond the buffer are dropped");
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
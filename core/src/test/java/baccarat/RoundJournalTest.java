@@ -0,0 +1,264 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class RoundJournalTest {
+
+    /**
+     * Tests that committed rounds are read back with the cards, counters and bets they were written with.
+     */
+    @Test
+    void testRoundsAreReadBack() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            BaccaratEngine engine = new BaccaratEngine(BaccaratDealer.forSimulation(8, 42), 8);
+            BetBook book = new BetBook(4);
+            ArrayList<RoundResult> rounds = new ArrayList<>();
+            ArrayList<Long> shoes = new ArrayList<>();
+            ArrayList<Long> bankerPayouts = new ArrayList<>();
+            try (RoundJournal journal = RoundJournal.open(path, 60_000)) {
+                for (int i = 0; i < 200; i++) {
+                    RoundResult round = engine.playRound();
+                    book.clear();
+                    book.add(1, BetBook.PLAYER, 1_000);
+                    book.add(2, BetBook.BANKER, 2_000);
+                    book.settleRound(round.getOutcome());
+                    journal.append(7, engine.getDealer().getShoeNumber(), engine.getDealer().getRoundNumber(), round, book);
+                    rounds.add(round);
+                    shoes.add(engine.getDealer().getShoeNumber());
+                    bankerPayouts.add(book.getPayout(1));
+                }
+                assertEquals(0, journal.committedSize(), "Nothing should be committed before the interval");
+                journal.commit();
+                assertEquals(200, journal.committedSize(), "Commit should cover every appended round");
+            }
+
+            try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+                assertEquals(200, reader.size(), "Reader should see every committed round");
+                Hand hand = new Hand();
+                reader.scan((index, entry) -> {
+                    RoundResult round = rounds.get((int) index);
+                    assertEquals(7, entry.getTableId());
+                    assertEquals((long) shoes.get((int) index), entry.getShoeId());
+                    entry.replayPlayerHand(hand);
+                    assertEquals(round.getPlayerCards(), hand.pack(), "Player cards should match");
+                    entry.replayBankerHand(hand);
+                    assertEquals(round.getBankerCards(), hand.pack(), "Banker cards should match");
+                    assertEquals(round.isNatural(), entry.isNatural());
+                    assertEquals(round.getWinner().getCode(), entry.getWinner());
+                    assertEquals(2, entry.getBetCount());
+                    assertEquals(3_000, entry.getWageredCents());
+                    assertEquals(2L, entry.getBetSessionId(1), "Bets should be recorded in book order");
+                    assertEquals(BetBook.BANKER, entry.getBetType(1));
+                    assertEquals(2_000, entry.getBetAmount(1));
+                    assertEquals((long) bankerPayouts.get((int) index), entry.getBetPayout(1));
+                    assertEquals(entry.getPaidCents(), entry.getBetPayout(0) + entry.getBetPayout(1), "Bets should add up to the round");
+                });
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    /**
+     * Tests that reopening a journal keeps its committed rounds, drops uncommitted ones, and numbers rounds in a shoe from 1.
+     */
+    @Test
+    void testReopenAppendsAfterCommittedRounds() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            BaccaratEngine engine = new BaccaratEngine(BaccaratDealer.forSimulation(6, 1), 6);
+            try (RoundJournal journal = RoundJournal.open(path, 60_000)) {
+                for (int i = 0; i < 5; i++) {
+                    RoundResult round = engine.playRound();
+                    journal.append(1, engine.getDealer().getShoeNumber(), engine.getDealer().getRoundNumber(), round, null);
+                }
+            }
+            try (RoundJournal journal = RoundJournal.open(path, 60_000)) {
+                assertEquals(5, journal.size(), "Closing should have committed the rounds");
+                journal.append(2, 9, 1, engine.playRound(), null);
+            }
+            try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+                assertEquals(6, reader.size());
+                long[] rounds = new long[6];
+                reader.scan((index, entry) -> rounds[(int) index] = entry.getTableId() * 100L + entry.getRound());
+                assertArrayEquals(new long[] {101, 102, 103, 104, 105, 201}, rounds, "Rounds should follow each other");
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    /**
+     * Tests that rounds appended from many threads at once are all committed whole, each followed by its own bets.
+     */
+    @Test
+    void testConcurrentAppends() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            int threads = 8;
+            int roundsPerThread = 2_000;
+            try (RoundJournal journal = RoundJournal.open(path, 5)) {
+                ExecutorService pool = Executors.newFixedThreadPool(threads);
+                ArrayList<Future<?>> tables = new ArrayList<>();
+                for (int t = 1; t <= threads; t++) {
+                    int tableId = t;
+                    tables.add(pool.submit(() -> {
+                        BaccaratEngine engine = new BaccaratEngine(BaccaratDealer.forSimulation(8, tableId), 8);
+                        BetBook book = new BetBook(4);
+                        for (int i = 1; i <= roundsPerThread; i++) {
+                            RoundResult round = engine.playRound();
+                            book.clear();
+                            for (int bet = 0; bet < i % 4; bet++) {
+                                book.add(tableId * 1_000_000L + i, bet % 3, 100 * (bet + 1));
+                            }
+                            book.settleRound(round.getOutcome());
+                            journal.append(tableId, 1, i, round, book);
+                        }
+                    }));
+                }
+                for (Future<?> table : tables) {
+                    table.get();
+                }
+                pool.shutdown();
+                assertEquals((long) threads * roundsPerThread, journal.size(), "Every append should be counted");
+            }
+
+            try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+                assertEquals((long) threads * roundsPerThread, reader.size(), "Closing should have committed every round");
+                int[] lastRound = new int[threads + 1];
+                reader.scan((index, entry) -> {
+                    int table = entry.getTableId();
+                    assertEquals(lastRound[table] + 1, entry.getRound(), "Rounds of a table should keep their order");
+                    lastRound[table] = entry.getRound();
+                    assertEquals(entry.getRound() % 4, entry.getBetCount());
+                    for (int bet = 0; bet < entry.getBetCount(); bet++) {
+                        assertEquals(table * 1_000_000L + entry.getRound(), entry.getBetSessionId(bet), "Bets should follow their own round");
+                        assertEquals(bet % 3, entry.getBetType(bet));
+                        assertEquals(100 * (bet + 1), entry.getBetAmount(bet));
+                    }
+                });
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    /**
+     * Tests that an append refused by a full journal reserves nothing, so a smaller round that still fits is
+     * appended after it and every round is committed.
+     */
+    @Test
+    void testFullJournalKeepsCommitting() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            BaccaratEngine engine = new BaccaratEngine(BaccaratDealer.forSimulation(8, 3), 8);
+            BetBook book = new BetBook(4);
+            try (RoundJournal journal = RoundJournal.open(path, 60_000, 100)) {
+                for (int i = 1; i <= 33; i++) { // A round and two bets each; 99 of the 100 records
+                    RoundResult round = engine.playRound();
+                    book.clear();
+                    book.add(1, BetBook.PLAYER, 100);
+                    book.add(2, BetBook.BANKER, 100);
+                    book.settleRound(round.getOutcome());
+                    journal.append(1, 1, i, round, book);
+                }
+                RoundResult round = engine.playRound();
+                assertThrows(IllegalStateException.class, () -> journal.append(1, 1, 34, round, book), "Round and bets should not fit");
+                journal.commit();
+                assertEquals(33, journal.committedSize(), "Refused append should not stop the commit");
+                journal.append(1, 1, 34, round, null);
+                journal.commit();
+                assertEquals(34, journal.committedSize(), "Round that fits should be committed after a refused one");
+                assertThrows(IllegalStateException.class, () -> journal.append(1, 1, 35, engine.playRound(), null), "Full journal should refuse rounds");
+            }
+            try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+                assertEquals(34, reader.size());
+                int[] rounds = new int[34];
+                reader.scan((index, entry) -> rounds[(int) index] = entry.getRound());
+                assertEquals(34, rounds[33], "Last round should follow the refused one");
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    /**
+     * Tests that range scans starting anywhere, including on and around indexed rounds, see the same rounds as a
+     * full scan, and that a missing index is rebuilt when the journal is reopened.
+     */
+    @Test
+    void testRangeScansSeekThroughIndex() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            int roundCount = 5 * RoundJournal.INDEX_INTERVAL + 7;
+            BaccaratEngine engine = new BaccaratEngine(BaccaratDealer.forSimulation(8, 5), 8);
+            BetBook book = new BetBook(4);
+            try (RoundJournal journal = RoundJournal.open(path, 60_000)) {
+                for (int i = 0; i < roundCount; i++) {
+                    RoundResult round = engine.playRound();
+                    book.clear();
+                    for (int bet = 0; bet < i % 4; bet++) {
+                        book.add(i, BetBook.PLAYER, 100);
+                    }
+                    book.settleRound(round.getOutcome());
+                    journal.append(1, 1, i, round, book);
+                }
+            }
+            assertEquals(6 * Long.BYTES, Files.size(RoundJournal.indexPath(path)), "Index should hold every 1024th round");
+            assertRangesScan(path, roundCount);
+
+            Files.delete(RoundJournal.indexPath(path));
+            try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+                int[] rounds = new int[1];
+                reader.scan(roundCount - 3, roundCount, (index, entry) -> rounds[0]++);
+                assertEquals(3, rounds[0], "Reader should step from the start without an index");
+            }
+            try (RoundJournal journal = RoundJournal.open(path, 60_000)) {
+                RoundResult round = engine.playRound();
+                book.clear();
+                for (int bet = 0; bet < roundCount % 4; bet++) {
+                    book.add(roundCount, BetBook.PLAYER, 100);
+                }
+                book.settleRound(round.getOutcome());
+                journal.append(1, 1, roundCount, round, book);
+            }
+            assertEquals(6 * Long.BYTES, Files.size(RoundJournal.indexPath(path)), "Reopening should rebuild the index");
+            assertRangesScan(path, roundCount + 1);
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    // Checks that ranges around the indexed rounds hold the rounds the test appended, each with its own bets
+    private static void assertRangesScan(Path path, int roundCount) throws Exception {
+        try (RoundJournalReader reader = RoundJournalReader.open(path)) {
+            int interval = RoundJournal.INDEX_INTERVAL;
+            for (int from : new int[] {0, 1, interval - 1, interval, interval + 1, 3 * interval + 500, roundCount - 1, roundCount}) {
+                int to = Math.min(roundCount, from + 600);
+                long[] next = {from};
+                reader.scan(from, to, (index, entry) -> {
+                    assertEquals(next[0]++, index, "Rounds should be visited in order from the start of the range");
+                    assertEquals(index, entry.getRound(), "Round " + index + " should be the one appended there");
+                    assertEquals(index % 4, entry.getBetCount());
+                    for (int bet = 0; bet < entry.getBetCount(); bet++) {
+                        assertEquals(index, entry.getBetSessionId(bet), "Bets should follow their own round");
+                    }
+                });
+                assertEquals(to, next[0], "Range " + from + "-" + to + " should be visited whole");
+            }
+        }
+    }
+}
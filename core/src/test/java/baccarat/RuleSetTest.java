@@ -0,0 +1,71 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+class RuleSetTest {
+
+    /**
+     * Tests the exact bet EVs of each preset against the published house edges for 8 decks:
+     * 1.0579% on the banker with commission, 1.4581% when a banker 6 pays half,
+     * 1.0183% when a banker three card 7 pushes, and 14.3596% on a tie paying 8 to 1.
+     */
+    @Test
+    void testPresetHouseEdges() {
+        assertEquals(-0.010579, BaccaratOddsCalculator.forRules(RuleSet.MACAU).getBankerBetEv(), 1e-6, "Macau banker EV");
+        assertEquals(-0.143596, BaccaratOddsCalculator.forRules(RuleSet.MACAU).getDrawBetEv(), 1e-6, "Tie paying 8 to 1");
+        assertEquals(-0.014581, BaccaratOddsCalculator.forRules(RuleSet.NO_COMMISSION).getBankerBetEv(), 1e-6, "No commission banker EV");
+        assertEquals(-0.010183, BaccaratOddsCalculator.forRules(RuleSet.EZ).getBankerBetEv(), 1e-6, "EZ banker EV");
+        assertEquals(-0.012351, BaccaratOddsCalculator.forRules(RuleSet.EZ).getPlayerBetEv(), 1e-6, "Player EV is the same everywhere");
+    }
+
+    /**
+     * Tests that the standard rules settle bets exactly as the engine always has: even money, less 5% commission
+     * on the banker, a draw paying even money and returning bets on either side.
+     */
+    @Test
+    void testStandardSettlement() {
+        int bankerSix = TestHands.outcome(new int[] {2, 3}, new int[] {3, 3}); // Banker wins 6 to 5
+        int playerWin = TestHands.outcome(new int[] {4, 5}, new int[] {3, 4});
+        int draw = TestHands.outcome(new int[] {2, 5}, new int[] {3, 4});
+        assertEquals(1_000, RuleSet.STANDARD.payoutCents(BetBook.PLAYER, playerWin, 1_000), "Player bet pays even money");
+        assertEquals(950, RuleSet.STANDARD.payoutCents(BetBook.BANKER, bankerSix, 1_000), "Banker bet pays less 5% commission");
+        assertEquals(1, RuleSet.STANDARD.payoutCents(BetBook.BANKER, bankerSix, 1), "Commission rounds half up to the cent");
+        assertEquals(1_000, RuleSet.STANDARD.payoutCents(BetBook.DRAW, draw, 1_000), "Draw bet pays even money");
+        assertEquals(0, RuleSet.STANDARD.payoutCents(BetBook.PLAYER, draw, 1_000), "Player bet is returned on a draw");
+        assertEquals(-1_000, RuleSet.STANDARD.payoutCents(BetBook.BANKER, playerWin, 1_000), "Losing bet loses the stake");
+        assertEquals(-1_000, RuleSet.STANDARD.payoutCents(BetBook.DRAW, bankerSix, 1_000), "Draw bet loses on a win");
+        assertEquals(500, RuleSet.NO_COMMISSION.payoutCents(BetBook.BANKER, bankerSix, 1_000), "Banker 6 pays half");
+    }
+
+    /**
+     * Tests reading rules from properties, both over a preset and from scratch.
+     */
+    @Test
+    void testFromProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("preset", "ez");
+        properties.setProperty("decks", "6");
+        RuleSet rules = RuleSet.fromProperties(properties);
+        assertEquals(6, rules.getNumDecks(), "Decks override the preset");
+        assertEquals(RuleSet.EZ.withDecks(6), rules, "Everything else comes from the preset");
+
+        properties.clear();
+        properties.setProperty("player.draws", "DDDDDDSSSS");
+        assertEquals(RuleSet.STANDARD, RuleSet.fromProperties(properties), "Unset keys take the standard rules");
+
+        properties.setProperty("player.draws", "DDD");
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.fromProperties(properties), "Short draw rule");
+        properties.setProperty("player.draws", "DDDDDDSSSS");
+        properties.setProperty("decks", "many");
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.fromProperties(properties), "Decks not a number");
+        properties.setProperty("decks", "8");
+        properties.setProperty("cut.card", "5");
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.fromProperties(properties), "Cut card too close to the end");
+        properties.setProperty("cut.card", "52");
+        assertEquals(52, RuleSet.fromProperties(properties).getCutCard(), "Cut card a deck from the end");
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.preset("atlantic"), "Unknown preset");
+    }
+}
@@ -0,0 +1,98 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class ScoreboardTest {
+    private static final int P = BetBook.PLAYER;
+    private static final int B = BetBook.BANKER;
+    private static final int D = BetBook.DRAW;
+
+    private static Scoreboard play(int capacity, int... winners) {
+        Scoreboard board = new Scoreboard(capacity);
+        for (int winner : winners) {
+            board.record(winner, false, false, false);
+        }
+        return board;
+    }
+
+    /**
+     * Tests the Big Road and the three derived roads against a shoe worked out by hand.
+     * Columns: B B | P | B B B | P P | B, with draws after the first cell and at the end.
+     */
+    @Test
+    void testRoads() {
+        Scoreboard.Snapshot snapshot = play(64, B, D, B, P, B, B, B, P, P, B, D).snapshot();
+
+        assertEquals(9, snapshot.getBigRoadSize(), "Draws should not take Big Road cells");
+        assertEquals(1, snapshot.getBigRoadDraws(0), "The draw should be marked on the cell before it");
+        assertEquals(1, snapshot.getBigRoadDraws(8));
+        assertEquals(4, snapshot.getBigRoadColumn(8));
+        assertEquals(2, snapshot.getBigRoadRow(5), "Third banker win in a row should be on row 2");
+
+        assertArrayEquals(new byte[] {1, 1, 0, 1, 0, 1}, snapshot.getDerivedRoad(0), "Big Eye Boy");
+        assertArrayEquals(new byte[] {0, 1, 1, 1, 1}, snapshot.getDerivedRoad(1), "Small Road");
+        assertArrayEquals(new byte[] {0, 0}, snapshot.getDerivedRoad(2), "Cockroach Pig");
+    }
+
+    /**
+     * Tests the counts and streaks, and that draws do not break a streak.
+     */
+    @Test
+    void testCountsAndStreaks() {
+        Scoreboard board = play(64, P, P, P, B, B, D, B, D);
+        board.record(B, true, true, false);
+        Scoreboard.Snapshot snapshot = board.snapshot();
+
+        assertEquals(9, snapshot.getRounds());
+        assertEquals(3, snapshot.getPlayerWins());
+        assertEquals(4, snapshot.getBankerWins());
+        assertEquals(2, snapshot.getDraws());
+        assertEquals(1, snapshot.getNaturals());
+        assertEquals(1, snapshot.getPlayerPairs());
+        assertEquals(B, snapshot.getStreakWinner());
+        assertEquals(4, snapshot.getStreakLength(), "Draws should not break the banker's streak");
+        assertEquals(3, snapshot.getLongestPlayerStreak());
+        byte last = snapshot.getBeadPlate()[8];
+        assertEquals(B, Scoreboard.Snapshot.winnerOf(last));
+        assertEquals(Scoreboard.PLAYER_PAIR | Scoreboard.NATURAL, last & ~3, "Bead should carry the pair and natural flags");
+    }
+
+    /**
+     * Tests that a full ring keeps the most recent entries and the roads still compare the right columns.
+     */
+    @Test
+    void testRingKeepsRecentEntries() {
+        int[] winners = new int[40];
+        for (int i = 0; i < winners.length; i++) {
+            winners[i] = i % 3 == 0 ? P : B; // Columns P | B B | P | B B ...
+        }
+        Scoreboard.Snapshot small = play(8, winners).snapshot();
+        Scoreboard.Snapshot large = play(64, winners).snapshot();
+
+        assertEquals(8, small.getBeadPlate().length);
+        assertEquals(40, small.getRounds());
+        assertEquals(large.getBigRoadColumn(large.getBigRoadSize() - 1), small.getBigRoadColumn(7));
+        byte[] recent = large.getDerivedRoad(0);
+        byte[] expected = java.util.Arrays.copyOfRange(recent, recent.length - 8, recent.length);
+        assertArrayEquals(expected, small.getDerivedRoad(0), "Derived road should not depend on the capacity");
+    }
+
+    /**
+     * Tests that pairs are read from the first two cards of a round.
+     */
+    @Test
+    void testPairsFromRound() {
+        Hand player = new Hand();
+        Hand banker = new Hand();
+        player.add(Card.code(Suit.HEARTS, 7));
+        player.add(Card.code(Suit.SPADES, 7));
+        banker.add(Card.code(Suit.HEARTS, 12));
+        banker.add(Card.code(Suit.CLUBS, 13));
+        Scoreboard board = new Scoreboard(16);
+        board.record(new RoundResult(player, banker, false, Outcome.PLAYER));
+        Scoreboard.Snapshot snapshot = board.snapshot();
+        assertEquals(1, snapshot.getPlayerPairs());
+        assertEquals(0, snapshot.getBankerPairs(), "Queen and King should not be a pair");
+    }
+}
@@ -0,0 +1,72 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.random.RandomGenerator;
+
+class ShuffleStrategyTest {
+
+    /**
+     * Tests that every strategy only reorders the cards: each card code is still in the shoe once per deck.
+     */
+    @Test
+    void testStrategiesKeepEveryCard() {
+        ShuffleStrategy[] strategies = {FisherYatesShuffle.INSTANCE, new RiffleShuffle(3), new StripShuffle(), ShuffleStrategy.casino()};
+        for (ShuffleStrategy strategy : strategies) {
+            Shoe shoe = new Shoe(6);
+            shoe.reshuffle(strategy, new SplitMix64Random(3));
+            int[] counts = new int[Card.CODES];
+            while (shoe.remaining() > 0) {
+                counts[shoe.draw()]++;
+            }
+            for (int count : counts) {
+                assertEquals(6, count, "Each card should appear once in each of the 6 decks");
+            }
+        }
+    }
+
+    /**
+     * Tests that a shuffle only touches the cards that have not been dealt yet.
+     */
+    @Test
+    void testShuffleKeepsDealtCards() {
+        Shoe shoe = new Shoe(1);
+        shoe.skip(10);
+        shoe.shuffle(new RiffleShuffle(1), new SplitMix64Random(5));
+        shoe.reset();
+        for (int code = 0; code < 10; code++) {
+            assertEquals(code, shoe.draw(), "Dealt cards should keep their order");
+        }
+    }
+
+    /**
+     * Tests that a dealer seeded for simulation deals the same shoe every time.
+     */
+    @Test
+    void testSimulationDealerIsReproducible() {
+        BaccaratDealer first = BaccaratDealer.forSimulation(6, 99);
+        BaccaratDealer second = BaccaratDealer.forSimulation(6, 99);
+        while (first.getDeckSize() > 0) {
+            assertEquals(first.drawCode(), second.drawCode(), "Same seed should deal the same cards");
+        }
+    }
+
+    /**
+     * Tests that restoring the state of the fast generator replays its sequence, and that bounded ints stay in range.
+     */
+    @Test
+    void testSplitMix64State() {
+        SplitMix64Random random = new SplitMix64Random(1);
+        random.nextLong();
+        long state = random.getState();
+        long expected = random.nextLong();
+        random.setState(state);
+        assertEquals(expected, random.nextLong(), "Restored state should continue the same sequence");
+
+        RandomGenerator bounded = new SplitMix64Random(2);
+        for (int i = 0; i < 10_000; i++) {
+            int value = bounded.nextInt(7);
+            assertTrue(value >= 0 && value < 7, "nextInt should stay within its bound");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class SideBetTest {
+
+    @Test
+    void testPairs() {
+        int outcome = TestHands.outcome(new int[] {12, 12, 5}, new int[] {4, 9});
+        assertEquals(11, SideBet.PLAYER_PAIR.settle(outcome), "Two queens should pay 11 to 1");
+        assertEquals(-1, SideBet.BANKER_PAIR.settle(outcome));
+        assertEquals(-5_000, SideBet.BANKER_PAIR.settleCents(outcome, 5_000));
+    }
+
+    @Test
+    void testDragonBonus() {
+        int naturalWin = TestHands.outcome(new int[] {4, 5}, new int[] {3, 4});
+        assertEquals(1, SideBet.PLAYER_DRAGON_BONUS.settle(naturalWin), "A natural win should pay 1 to 1");
+        assertEquals(-1, SideBet.BANKER_DRAGON_BONUS.settle(naturalWin));
+
+        int naturalDraw = TestHands.outcome(new int[] {4, 4}, new int[] {5, 3});
+        assertEquals(0, SideBet.PLAYER_DRAGON_BONUS.settle(naturalDraw), "A natural draw should push");
+
+        int winByNine = TestHands.outcome(new int[] {2, 3, 4}, new int[] {10, 13, 10}); // 9 against 0
+        assertEquals(30, SideBet.PLAYER_DRAGON_BONUS.settle(winByNine), "A non-natural win by 9 should pay 30 to 1");
+
+        int winByThree = TestHands.outcome(new int[] {10, 2, 5}, new int[] {2, 2, 10}); // 7 against 4
+        assertEquals(-1, SideBet.PLAYER_DRAGON_BONUS.settle(winByThree), "A non-natural win by 3 should lose");
+    }
+
+    @Test
+    void testLuckySix() {
+        assertEquals(12, SideBet.LUCKY_6.settle(TestHands.outcome(new int[] {2, 3}, new int[] {3, 3})), "Two card 6 should pay 12 to 1");
+        assertEquals(20, SideBet.LUCKY_6.settle(TestHands.outcome(new int[] {2, 3}, new int[] {3, 10, 3})), "Three card 6 should pay 20 to 1");
+        assertEquals(-1, SideBet.LUCKY_6.settle(TestHands.outcome(new int[] {6, 10}, new int[] {3, 3})), "A draw on 6 should lose");
+    }
+
+    @Test
+    void testDragonSevenAndPandaEight() {
+        assertEquals(40, SideBet.DRAGON_7.settle(TestHands.outcome(new int[] {10, 2, 3}, new int[] {1, 2, 4})), "Banker three card 7 should pay 40 to 1");
+        assertEquals(-1, SideBet.DRAGON_7.settle(TestHands.outcome(new int[] {10, 2}, new int[] {3, 4})), "A two card 7 should lose");
+        assertEquals(25, SideBet.PANDA_8.settle(TestHands.outcome(new int[] {1, 2, 5}, new int[] {10, 5, 2})), "Player three card 8 should pay 25 to 1");
+    }
+}
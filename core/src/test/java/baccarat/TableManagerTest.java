@@ -0,0 +1,144 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class TableManagerTest {
+
+    /**
+     * Tests that a bet is taken from the bankroll when placed and settled by the table's next round.
+     */
+    @Test
+    void testBetIsSettled() throws Exception {
+        try (TableManager manager = new TableManager(2, 5, 6)) {
+            int table = manager.openTable();
+            long session = manager.openSession(10_000);
+            BetResult result = manager.placeBet(session, table, BetType.PLAYER, 1_000).get(5, TimeUnit.SECONDS);
+            assertEquals(1_000, result.getAmount(), "Settled bet should keep its amount");
+            assertEquals(RuleSet.STANDARD.payoutCents(BetBook.PLAYER, result.getRound().getOutcome(), 1_000), result.getPayout(), "Payout should follow the round");
+            assertEquals(10_000 + result.getPayout(), manager.getSession(session).getBankroll(), "Bankroll should reflect the payout");
+        }
+    }
+
+    /**
+     * Tests that a bet larger than the bankroll is refused without touching the bankroll.
+     */
+    @Test
+    void testBetOverBankrollIsRefused() {
+        try (TableManager manager = new TableManager(1, 1000, 6)) {
+            int table = manager.openTable();
+            long session = manager.openSession(500);
+            CompletableFuture<BetResult> result = manager.placeBet(session, table, BetType.BANKER, 1_000);
+            assertThrows(ExecutionException.class, result::get, "Bet over the bankroll should fail");
+            assertEquals(500, manager.getSession(session).getBankroll(), "Refused bet should not change the bankroll");
+        }
+    }
+
+    /**
+     * Tests that closing a table refunds the bets waiting on its next round, and that the ledger records it.
+     */
+    @Test
+    void testCloseTableRefundsBets() {
+        TableManager manager = new TableManager(1, 60_000, 6);
+        int table = manager.openTable();
+        long session = manager.openSession(5_000);
+        CompletableFuture<BetResult> result = manager.placeBet(session, table, BetType.DRAW, 2_000);
+        manager.closeTable(table);
+        assertTrue(result.isCompletedExceptionally(), "Waiting bet should fail when its table closes");
+        assertEquals(5_000, manager.getSession(session).getBankroll(), "Waiting bet should be refunded");
+        manager.getSession(session).readLedger(ledger -> {
+            assertEquals(3, ledger.size(), "Ledger should hold the deposit, the bet and the refund");
+            assertEquals(Ledger.BET, ledger.getKind(1), "Second entry should be the bet");
+            assertEquals(-2_000, ledger.getAmount(1), "Bet should take the stake");
+            assertEquals(Ledger.REFUND, ledger.getKind(2), "Third entry should be the refund");
+        });
+        manager.close();
+    }
+
+    /**
+     * Tests that tables of different managers get different ids, so they never share metrics or journal ids, and
+     * that closing a table of one manager leaves the other's table open.
+     */
+    @Test
+    void testTableIdsAreUniqueAcrossManagers() {
+        try (TableManager first = new TableManager(1, 60_000, 6); TableManager second = new TableManager(1, 60_000, 6)) {
+            int firstTable = first.openTable();
+            int secondTable = second.openTable();
+            assertNotEquals(firstTable, secondTable, "Tables of different managers should not share an id");
+            first.closeTable(firstTable);
+            long session = second.openSession(1_000);
+            CompletableFuture<BetResult> result = second.placeBet(session, secondTable, BetType.PLAYER, 100);
+            assertFalse(result.isCompletedExceptionally(), "The other manager's table should still take bets");
+        }
+    }
+
+    /**
+     * Tests that a round that fails, here because its journal is closed, refunds and fails the bets on it and
+     * closes its table instead of leaving them waiting.
+     */
+    @Test
+    void testFailedRoundRefundsBetsAndClosesTable() throws Exception {
+        Path path = Files.createTempFile("rounds", ".journal");
+        try {
+            RoundJournal journal = RoundJournal.open(path, 60_000);
+            journal.close();
+            try (TableManager manager = new TableManager(1, 5, RuleSet.STANDARD, journal)) {
+                int table = manager.openTable();
+                long session = manager.openSession(5_000);
+                CompletableFuture<BetResult> result = manager.placeBet(session, table, BetType.BANKER, 2_000);
+                ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS), "Bet on a failed round should fail");
+                assertInstanceOf(IllegalStateException.class, failure.getCause(), "Failure should say the round failed");
+                assertEquals(5_000, manager.getSession(session).getBankroll(), "Bet on a failed round should be refunded");
+                for (int i = 0; i < 100 && manager.getTableCount() > 0; i++) {
+                    Thread.sleep(10);
+                }
+                assertEquals(0, manager.getTableCount(), "Table should close after a failed round");
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(RoundJournal.indexPath(path));
+        }
+    }
+
+    /**
+     * Tests that bets placed while their table closes are all either refused or refunded, so none is left waiting
+     * with its stake taken.
+     */
+    @Test
+    void testBetsRacingCloseAreRefunded() throws Exception {
+        ExecutorService bettors = Executors.newFixedThreadPool(4);
+        try (TableManager manager = new TableManager(1, 60_000, 6)) {
+            int table = manager.openTable();
+            long session = manager.openSession(1_000_000);
+            List<Future<List<CompletableFuture<BetResult>>>> placed = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                placed.add(bettors.submit(() -> {
+                    List<CompletableFuture<BetResult>> results = new ArrayList<>();
+                    for (int i = 0; i < 2_000; i++) {
+                        results.add(manager.placeBet(session, table, BetType.PLAYER, 1));
+                    }
+                    return results;
+                }));
+            }
+            manager.closeTable(table);
+            for (Future<List<CompletableFuture<BetResult>>> results : placed) {
+                for (CompletableFuture<BetResult> result : results.get()) {
+                    assertTrue(result.isCompletedExceptionally(), "Every bet should be refused or refunded");
+                }
+            }
+            assertEquals(1_000_000, manager.getSession(session).getBankroll(), "Every stake should be back");
+        } finally {
+            bettors.shutdown();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package baccarat;
+
+/**
+ * Builds rounds from card values for tests.
+ */
+final class TestHands {
+
+    private TestHands() {
+    }
+
+    /**
+     * Packs the outcome of a round dealt from the given card values, with suits assigned in turn so that equal
+     * values on one side are different cards.
+     *
+     * @param playerValues The values of the player's cards, 1 through 13.
+     * @param bankerValues The values of the banker's cards, 1 through 13.
+     * @return The packed outcome, as RoundOutcome.of returns it.
+     */
+    static int outcome(int[] playerValues, int[] bankerValues) {
+        Suit[] suits = Suit.values();
+        Hand player = new Hand();
+        Hand banker = new Hand();
+        for (int i = 0; i < playerValues.length; i++) {
+            player.add(Card.code(suits[i % suits.length], playerValues[i]));
+        }
+        for (int i = 0; i < bankerValues.length; i++) {
+            banker.add(Card.code(suits[(i + 1) % suits.length], bankerValues[i]));
+        }
+        return RoundOutcome.of(player, banker);
+    }
+}
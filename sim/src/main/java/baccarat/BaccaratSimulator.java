@@ -0,0 +1,145 @@
+package baccarat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Monte Carlo simulator that plays whole shoes through BaccaratEngine across many threads.
+ *
+ * The shoes are split into fixed size chunks, and each chunk gets its own SplittableRandom split from the master
+ * seed in chunk order. Which thread runs a chunk therefore never affects the cards it deals, so a run is exactly
+ * reproducible from its seed whatever the thread count. Each chunk keeps its own SimulationStats, merged as soon as
+ * it is done, so workers share no counters or locks. Only a few chunks per processor are submitted ahead of the ones
+ * finished, so a run of any length holds a bounded number of pending results.
+ * Every round also settles a unit bet on each side bet, so a run measures their house edges as well.
+ */
+public class BaccaratSimulator {
+    // Shoes played by one task; fixed so the chunks, and with them the random streams, never depend on threads
+    private static final int SHOES_PER_CHUNK = 64;
+    // Chunks submitted but not merged yet; enough to keep every worker busy while results are merged
+    private static final int CHUNKS_IN_FLIGHT = 4 * Runtime.getRuntime().availableProcessors();
+
+    private final RuleSet rules;
+
+    /**
+     * Constructs a simulator for shoes of the given size, played by the standard rules.
+     *
+     * @param numDecks The number of decks in each shoe.
+     */
+    public BaccaratSimulator(int numDecks) {
+        this(RuleSet.STANDARD.withDecks(numDecks));
+    }
+
+    /**
+     * Constructs a simulator that plays by a rule set.
+     *
+     * @param rules The rules, including the number of decks in each shoe.
+     */
+    public BaccaratSimulator(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Runs a simulation on a fixed thread pool of the given size.
+     *
+     * @param shoes The number of shoes to play.
+     * @param masterSeed The seed all random streams are derived from.
+     * @param threads The number of worker threads.
+     * @return The merged statistics of every round played.
+     */
+    public SimulationStats run(long shoes, long masterSeed, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            return run(shoes, masterSeed, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs a simulation on the given executor.
+     *
+     * @param shoes The number of shoes to play.
+     * @param masterSeed The seed all random streams are derived from.
+     * @param executor The executor the chunks are submitted to; it is not shut down.
+     * @return The merged statistics of every round played.
+     */
+    public SimulationStats run(long shoes, long masterSeed, ExecutorService executor) {
+        SplittableRandom root = new SplittableRandom(masterSeed);
+        CompletionService<SimulationStats> chunks = new ExecutorCompletionService<>(executor);
+        SimulationStats total = new SimulationStats(rules);
+        int inFlight = 0;
+        try {
+            for (long first = 0; first < shoes; first += SHOES_PER_CHUNK) {
+                if (inFlight == CHUNKS_IN_FLIGHT) {
+                    total.merge(chunks.take().get()); // Counts merge in any order, so take whichever finished first
+                    inFlight--;
+                }
+                SplittableRandom random = root.split(); // Split on this thread, in chunk order
+                int count = (int) Math.min(SHOES_PER_CHUNK, shoes - first);
+                chunks.submit(() -> playShoes(count, random));
+                inFlight++;
+            }
+            for (; inFlight > 0; inFlight--) {
+                total.merge(chunks.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        return total;
+    }
+
+    // Plays the given number of shoes with one dealer, each until the cut card comes out
+    private SimulationStats playShoes(int count, SplittableRandom random) {
+        SimulationStats stats = new SimulationStats(rules);
+        BaccaratDealer dealer = new BaccaratDealer(rules.getNumDecks(), random);
+        BaccaratEngine engine = new BaccaratEngine(dealer, rules);
+        for (int shoe = 0; shoe < count; shoe++) {
+            if (shoe > 0) {
+                dealer.reshuffle(); // The dealer shuffled the first shoe when it was constructed
+            }
+            while (!rules.isShoeFinished(dealer.getDeckSize())) {
+                engine.playHands();
+                stats.recordRound(engine.getOutcome());
+            }
+            stats.recordShoe();
+        }
+        return stats;
+    }
+
+    /**
+     * Runs a simulation from the command line: shoes, seed, threads and decks, all optional, followed by an optional
+     * rule set preset name or properties file, which sets the number of decks instead.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        long shoes = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int decks = args.length > 3 ? Integer.parseInt(args[3]) : 6;
+        RuleSet rules = RuleSet.STANDARD.withDecks(decks);
+        if (args.length > 4) {
+            Path file = Paths.get(args[4]);
+            rules = Files.exists(file) ? RuleSet.load(file) : RuleSet.preset(args[4]);
+        }
+
+        long start = System.nanoTime();
+        SimulationStats stats = new BaccaratSimulator(rules).run(shoes, seed, threads);
+        System.out.println(rules);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(stats);
+        System.out.printf("%.2f s on %d threads, %.0f rounds/s%n", seconds, threads, stats.getRounds() / seconds);
+    }
+}
@@ -0,0 +1,225 @@
+package baccarat;
+
+/**
+ * Resolves thousands of deals at once from structure-of-arrays card ranks, for simulations, shoe scans and exact
+ * enumeration.
+ *
+ * A deal is the first six cards of a round in dealing order: two to the player, two to the banker, then the cards
+ * that follow, which are the third cards of whichever sides draw. Each of the six positions is its own array
+ * indexed by deal, and each result is another such array, so one pass walks every array in step. The loop body has
+ * no branches: points, totals, naturals, draws and winners are all worked out with arithmetic and masks, plus one
+ * lookup into each of the rule set's compiled drawing tables. The same work is done for every deal whatever its
+ * cards, so the loop runs without mispredictions and each step depends only on the arrays.
+ *
+ * When the JVM is started with {@code --add-modules jdk.incubator.vector}, whole vectors of deals are resolved by
+ * {@link VectorHandKernel}, one deal per byte lane, and the scalar loop only finishes the deals left over at the end
+ * of the batch. Without the module, or on a CPU whose vectors are narrower than 16 bytes, the scalar loop resolves
+ * every deal. Both give exactly the same results.
+ * Not thread safe; give each thread its own evaluator.
+ */
+public final class BatchHandEvaluator {
+    /** Cards in a deal: two each to the player and banker, and up to two third cards. */
+    public static final int DEAL_CARDS = 6;
+
+    /** Whether batches are resolved with the Vector API. */
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorHandKernel.isSupported();
+
+    private final byte[] playerDraws = new byte[10]; // 1 where the player draws, by two card total
+    private final byte[] bankerDraws = new byte[10 * 11]; // 1 where the banker draws, by total and third card column
+    private final VectorHandKernel kernel; // Null unless VECTORIZED
+
+    /**
+     * Constructs an evaluator for the standard rules.
+     */
+    public BatchHandEvaluator() {
+        this(RuleSet.STANDARD);
+    }
+
+    /**
+     * Constructs an evaluator that draws by a rule set.
+     *
+     * @param rules The rules to play by.
+     */
+    public BatchHandEvaluator(RuleSet rules) {
+        boolean[] player = rules.playerDrawTable();
+        boolean[] banker = rules.bankerDrawTable();
+        for (int i = 0; i < playerDraws.length; i++) {
+            playerDraws[i] = (byte) (player[i] ? 1 : 0);
+        }
+        for (int i = 0; i < bankerDraws.length; i++) {
+            bankerDraws[i] = (byte) (banker[i] ? 1 : 0);
+        }
+        kernel = VECTORIZED ? new VectorHandKernel(playerDraws, bankerDraws) : null;
+    }
+
+    /**
+     * Resolves the first deals of a batch, filling its results.
+     *
+     * @param batch The batch, with the ranks of every deal filled in.
+     * @param count The number of deals to resolve, from the first.
+     * @throws IllegalArgumentException If the batch holds fewer deals.
+     */
+    public void evaluate(Batch batch, int count) {
+        if (count < 0 || count > batch.capacity()) {
+            throw new IllegalArgumentException("Batch of " + batch.capacity() + " deals cannot hold " + count);
+        }
+        int from = kernel == null ? 0 : kernel.evaluate(batch.ranks, batch.playerTotals, batch.bankerTotals,
+                batch.naturals, batch.playerDrew, batch.bankerDrew, batch.winners, count);
+        evaluateScalar(batch, from, count);
+    }
+
+    /**
+     * Resolves a range of deals with the scalar loop, whether or not the Vector API is in use.
+     *
+     * @param batch The batch.
+     * @param from The first deal to resolve.
+     * @param to The deal after the last one to resolve.
+     */
+    void evaluateScalar(Batch batch, int from, int to) {
+        byte[] card0 = batch.ranks[0];
+        byte[] card1 = batch.ranks[1];
+        byte[] card2 = batch.ranks[2];
+        byte[] card3 = batch.ranks[3];
+        byte[] card4 = batch.ranks[4];
+        byte[] card5 = batch.ranks[5];
+        for (int i = from; i < to; i++) {
+            int player = mod10(point(card0[i]) + point(card1[i]));
+            int banker = mod10(point(card2[i]) + point(card3[i]));
+            int natural = ((7 - player) >>> 31) | ((7 - banker) >>> 31); // 1 when either side has 8 or 9
+            int stands = natural ^ 1;
+
+            int next = point(card4[i]);
+            int after = point(card5[i]);
+            int playerDrew = playerDraws[player] & stands;
+            int playerThird = next * playerDrew;
+            int column = (playerThird + 1) * playerDrew; // 0 when the player stood
+            int bankerDrew = bankerDraws[banker * 11 + column] & stands;
+            int bankerThird = next + (after - next) * playerDrew; // The card after the player's, if the player drew
+            player = mod10(player + playerThird);
+            banker = mod10(banker + bankerThird * bankerDrew);
+
+            int playerWins = (banker - player) >>> 31;
+            int bankerWins = (player - banker) >>> 31;
+            batch.playerTotals[i] = (byte) player;
+            batch.bankerTotals[i] = (byte) banker;
+            batch.naturals[i] = (byte) natural;
+            batch.playerDrew[i] = (byte) playerDrew;
+            batch.bankerDrew[i] = (byte) bankerDrew;
+            batch.winners[i] = (byte) (BetBook.DRAW - 2 * playerWins - bankerWins); // PLAYER 0, BANKER 1, DRAW 2
+        }
+    }
+
+    // Point value of a rank: the rank itself below 10, 0 for 10s and face cards
+    private static int point(int rank) {
+        return rank & ((rank - 10) >> 31);
+    }
+
+    // Rightmost digit of a sum of two totals, which is at most 18
+    private static int mod10(int sum) {
+        return sum - (10 & ((9 - sum) >> 31));
+    }
+
+    /**
+     * The ranks and results of a batch of deals as parallel arrays, indexed by deal. Reused from batch to batch.
+     */
+    public static final class Batch {
+        private final byte[][] ranks;
+        private final byte[] playerTotals;
+        private final byte[] bankerTotals;
+        private final byte[] naturals;
+        private final byte[] playerDrew;
+        private final byte[] bankerDrew;
+        private final byte[] winners;
+
+        /**
+         * Constructs an empty batch.
+         *
+         * @param capacity The most deals it holds.
+         */
+        public Batch(int capacity) {
+            ranks = new byte[DEAL_CARDS][capacity];
+            playerTotals = new byte[capacity];
+            bankerTotals = new byte[capacity];
+            naturals = new byte[capacity];
+            playerDrew = new byte[capacity];
+            bankerDrew = new byte[capacity];
+            winners = new byte[capacity];
+        }
+
+        /**
+         * Returns the most deals the batch holds.
+         *
+         * @return The capacity.
+         */
+        public int capacity() {
+            return winners.length;
+        }
+
+        /**
+         * Returns the ranks dealt at one position of every deal, to be filled in.
+         * Cards at positions 4 and 5 are only read if a side draws.
+         *
+         * @param position The position in dealing order: 0 and 1 for the player, 2 and 3 for the banker, 4 and 5
+         *                 for the cards that follow.
+         * @return The ranks, 1 (Ace) through 13 (King), by deal.
+         */
+        public byte[] getRanks(int position) {
+            return ranks[position];
+        }
+
+        /**
+         * Returns the player's final total of each deal.
+         *
+         * @return The totals, 0 through 9.
+         */
+        public byte[] getPlayerTotals() {
+            return playerTotals;
+        }
+
+        /**
+         * Returns the banker's final total of each deal.
+         *
+         * @return The totals, 0 through 9.
+         */
+        public byte[] getBankerTotals() {
+            return bankerTotals;
+        }
+
+        /**
+         * Returns whether each deal was a natural.
+         *
+         * @return 1 where either side was dealt 8 or 9, otherwise 0.
+         */
+        public byte[] getNaturals() {
+            return naturals;
+        }
+
+        /**
+         * Returns whether the player drew in each deal.
+         *
+         * @return 1 where the player drew a third card, otherwise 0.
+         */
+        public byte[] getPlayerDrew() {
+            return playerDrew;
+        }
+
+        /**
+         * Returns whether the banker drew in each deal.
+         *
+         * @return 1 where the banker drew a third card, otherwise 0.
+         */
+        public byte[] getBankerDrew() {
+            return bankerDrew;
+        }
+
+        /**
+         * Returns the winner of each deal.
+         *
+         * @return The winners as BetBook codes, which are also {@link Outcome} codes.
+         */
+        public byte[] getWinners() {
+            return winners;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package baccarat;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a whole shoe, from the burn to the cut card, in one tight loop over the card codes.
+ *
+ * Nothing is dealt through a dealer or into hands: the loop reads points straight out of the card order and the
+ * rule set's compiled drawing tables, and writes each round into the parallel arrays of a reusable {@link Result}.
+ * Scanning any number of recorded or generated shoes therefore allocates nothing per shoe or per round. The rounds
+ * are the same ones {@link BaccaratEngine} plays from the same order.
+ * Not thread safe; give each thread its own player.
+ */
+public final class ShoePlayer {
+    private static final byte[] POINTS = new byte[Card.CODES]; // Point value by card code
+
+    static {
+        for (int code = 0; code < Card.CODES; code++) {
+            POINTS[code] = (byte) Card.pointOf(code);
+        }
+    }
+
+    private final RuleSet rules;
+    private final boolean[] playerDraws;
+    private final boolean[] bankerDraws;
+    private final byte[] order; // Scratch order for shoes shuffled from a seed
+
+    /**
+     * Constructs a player for shoes of a rule set.
+     *
+     * @param rules The rules, whose shoe size every shoe played must have.
+     */
+    public ShoePlayer(RuleSet rules) {
+        this.rules = rules;
+        this.playerDraws = rules.playerDrawTable();
+        this.bankerDraws = rules.bankerDrawTable();
+        this.order = new byte[rules.getNumDecks() * Card.CODES];
+    }
+
+    /**
+     * Plays a recorded shoe, such as one written by {@link Shoe#writeTo(java.nio.ByteBuffer)}.
+     *
+     * @param cards The card codes in dealing order, from the first card of the burn.
+     * @param result The result to fill; its previous rounds are overwritten.
+     * @return The number of rounds played.
+     * @throws IllegalArgumentException If the shoe is not the size the rules deal from.
+     */
+    public int play(byte[] cards, Result result) {
+        if (cards.length != order.length) {
+            throw new IllegalArgumentException("Shoe of " + cards.length + " cards, the rules deal from " + order.length);
+        }
+        result.ensureCapacity(cards.length / 4); // A round takes at least four cards
+        byte[] winners = result.winners;
+        byte[] playerTotals = result.playerTotals;
+        byte[] bankerTotals = result.bankerTotals;
+        byte[] cardsUsed = result.cardsUsed;
+
+        int burnt = rules.burnCount(cards[0]);
+        int cursor = burnt;
+        int rounds = 0;
+        // The rules keep the cut card far enough from the end that every round started here has its cards
+        while (!rules.isShoeFinished(cards.length - cursor)) {
+            int start = cursor;
+            int player = (POINTS[cards[cursor]] + POINTS[cards[cursor + 1]]) % 10;
+            int banker = (POINTS[cards[cursor + 2]] + POINTS[cards[cursor + 3]]) % 10;
+            cursor += 4;
+            if (player < 8 && banker < 8) { // No natural, so the drawing rules apply
+                int column = 0; // The player stood
+                if (playerDraws[player]) {
+                    int third = POINTS[cards[cursor++]];
+                    player = (player + third) % 10;
+                    column = third + 1;
+                }
+                if (bankerDraws[banker * 11 + column]) {
+                    banker = (banker + POINTS[cards[cursor++]]) % 10;
+                }
+            }
+            winners[rounds] = (byte) (player > banker ? BetBook.PLAYER : banker > player ? BetBook.BANKER : BetBook.DRAW);
+            playerTotals[rounds] = (byte) player;
+            bankerTotals[rounds] = (byte) banker;
+            cardsUsed[rounds] = (byte) (cursor - start);
+            rounds++;
+        }
+        result.rounds = rounds;
+        result.burnt = burnt;
+        result.remaining = cards.length - cursor;
+        return rounds;
+    }
+
+    /**
+     * Plays the shoe {@link BaccaratDealer#forSimulation(int, long)} deals first from the same seed.
+     *
+     * @param seed The seed the shoe is shuffled from.
+     * @param result The result to fill; its previous rounds are overwritten.
+     * @return The number of rounds played.
+     */
+    public int play(long seed, Result result) {
+        return play(new SplitMix64Random(seed), result);
+    }
+
+    /**
+     * Shuffles a new shoe with a Fisher-Yates shuffle and plays it.
+     *
+     * @param random The source of randomness.
+     * @param result The result to fill; its previous rounds are overwritten.
+     * @return The number of rounds played.
+     */
+    public int play(RandomGenerator random, Result result) {
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (byte) (i % Card.CODES); // Start from the order of a new shoe, as Shoe does
+        }
+        FisherYatesShuffle.INSTANCE.shuffle(order, 0, order.length, random);
+        return play(order, result);
+    }
+
+    /**
+     * The rounds of one shoe as parallel arrays, indexed by round. The arrays are reused by the next shoe played
+     * into the result and may be longer than the number of rounds; only the first {@link #getRounds()} are valid.
+     */
+    public static final class Result {
+        private byte[] winners = new byte[0];
+        private byte[] playerTotals = new byte[0];
+        private byte[] bankerTotals = new byte[0];
+        private byte[] cardsUsed = new byte[0];
+        private int rounds;
+        private int burnt;
+        private int remaining;
+
+        // Grows the arrays to hold a number of rounds; a result used for one shoe size only grows once
+        private void ensureCapacity(int capacity) {
+            if (winners.length < capacity) {
+                winners = new byte[capacity];
+                playerTotals = new byte[capacity];
+                bankerTotals = new byte[capacity];
+                cardsUsed = new byte[capacity];
+            }
+        }
+
+        /**
+         * Returns the number of rounds played from the shoe.
+         *
+         * @return The count.
+         */
+        public int getRounds() {
+            return rounds;
+        }
+
+        /**
+         * Returns the winner of each round.
+         *
+         * @return The winners as BetBook codes, which are also {@link Outcome} codes.
+         */
+        public byte[] getWinners() {
+            return winners;
+        }
+
+        /**
+         * Returns the player's final total in each round.
+         *
+         * @return The totals, 0 through 9.
+         */
+        public byte[] getPlayerTotals() {
+            return playerTotals;
+        }
+
+        /**
+         * Returns the banker's final total in each round.
+         *
+         * @return The totals, 0 through 9.
+         */
+        public byte[] getBankerTotals() {
+            return bankerTotals;
+        }
+
+        /**
+         * Returns the number of cards each round dealt, not counting the burn.
+         *
+         * @return The counts, 4 through 6.
+         */
+        public byte[] getCardsUsed() {
+            return cardsUsed;
+        }
+
+        /**
+         * Returns the number of cards burnt before the first round.
+         *
+         * @return The count.
+         */
+        public int getBurnt() {
+            return burnt;
+        }
+
+        /**
+         * Returns the number of cards left in the shoe once the cut card came out.
+         *
+         * @return The count.
+         */
+        public int getRemaining() {
+            return remaining;
+        }
+    }
+}
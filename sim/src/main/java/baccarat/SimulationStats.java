@@ -0,0 +1,264 @@
+package baccarat;
+
+/**
+ * Running totals of simulated Baccarat rounds.
+ * Each worker of a simulation keeps its own instance and the instances are merged at the end, so no counter is
+ * ever shared between threads. All counts are integers, so merging in any order gives the same result.
+ */
+public final class SimulationStats {
+    // z value for a two sided 95% confidence interval
+    private static final double Z_95 = 1.959964;
+
+    private final RuleSet rules; // Payouts the main bets are settled at
+
+    private long shoes;
+    private long rounds;
+    private final long[] wins = new long[3]; // Rounds by outcome code
+    private long naturals;
+    private final long[] settlements = new long[RuleSet.SETTLEMENT_KEYS]; // Rounds by what the main bets settle on
+
+    // Net units won by a one unit bet on each side bet, and the sum of their squares, over the rounds recorded
+    private static final SideBet[] SIDE_BETS = SideBet.values();
+    private final long[] sideBetNet = new long[SIDE_BETS.length];
+    private final long[] sideBetNetSquares = new long[SIDE_BETS.length];
+
+    /**
+     * Constructs empty statistics for the standard rules.
+     */
+    public SimulationStats() {
+        this(RuleSet.STANDARD);
+    }
+
+    /**
+     * Constructs empty statistics whose main bets settle at the payouts of a rule set.
+     *
+     * @param rules The rules.
+     */
+    public SimulationStats(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Records one round, settling a one unit bet on every main bet and side bet against it.
+     *
+     * @param outcome The packed outcome of the round, from {@link RoundOutcome}.
+     */
+    public void recordRound(int outcome) {
+        rounds++;
+        wins[RoundOutcome.winner(outcome)]++;
+        if (RoundOutcome.isNatural(outcome)) {
+            naturals++;
+        }
+        settlements[RuleSet.settlementKey(outcome)]++;
+        for (int i = 0; i < SIDE_BETS.length; i++) {
+            long net = SIDE_BETS[i].settle(outcome);
+            sideBetNet[i] += net;
+            sideBetNetSquares[i] += net * net;
+        }
+    }
+
+    /**
+     * Records that a shoe was played to its end.
+     */
+    public void recordShoe() {
+        shoes++;
+    }
+
+    /**
+     * Adds the counts of another instance to this one.
+     *
+     * @param other The statistics to add.
+     */
+    public void merge(SimulationStats other) {
+        shoes += other.shoes;
+        rounds += other.rounds;
+        for (int winner = 0; winner < wins.length; winner++) {
+            wins[winner] += other.wins[winner];
+        }
+        naturals += other.naturals;
+        for (int key = 0; key < RuleSet.SETTLEMENT_KEYS; key++) {
+            settlements[key] += other.settlements[key];
+        }
+        for (int i = 0; i < SIDE_BETS.length; i++) {
+            sideBetNet[i] += other.sideBetNet[i];
+            sideBetNetSquares[i] += other.sideBetNetSquares[i];
+        }
+    }
+
+    /**
+     * Returns the number of shoes played to the end.
+     *
+     * @return The count.
+     */
+    public long getShoes() {
+        return shoes;
+    }
+
+    /**
+     * Returns the number of rounds played.
+     *
+     * @return The count.
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds won by the player.
+     *
+     * @return The count.
+     */
+    public long getPlayerWins() {
+        return wins[BetBook.PLAYER];
+    }
+
+    /**
+     * Returns the number of rounds won by the banker.
+     *
+     * @return The count.
+     */
+    public long getBankerWins() {
+        return wins[BetBook.BANKER];
+    }
+
+    /**
+     * Returns the number of rounds that ended in a draw.
+     *
+     * @return The count.
+     */
+    public long getDraws() {
+        return wins[BetBook.DRAW];
+    }
+
+    /**
+     * Returns the number of rounds that ended on a natural.
+     *
+     * @return The count.
+     */
+    public long getNaturals() {
+        return naturals;
+    }
+
+    /**
+     * Returns the observed rates of each outcome and the observed bet EVs as odds, so they can be compared with
+     * BaccaratOddsCalculator.
+     *
+     * @return The fraction of rounds won by the player, by the banker, and drawn, with the mean result of each bet.
+     */
+    public BaccaratOdds toOdds() {
+        return new BaccaratOdds((double) getPlayerWins() / rounds, (double) getBankerWins() / rounds,
+                (double) getDraws() / rounds, getPlayerBetEv(), getBankerBetEv(), getDrawBetEv());
+    }
+
+    /**
+     * Returns the observed expected value of a one unit bet on the player.
+     *
+     * @return The mean result per round.
+     */
+    public double getPlayerBetEv() {
+        return mean(BetBook.PLAYER);
+    }
+
+    /**
+     * Returns the observed expected value of a one unit bet on the banker, after commission.
+     *
+     * @return The mean result per round.
+     */
+    public double getBankerBetEv() {
+        return mean(BetBook.BANKER);
+    }
+
+    /**
+     * Returns the observed expected value of a one unit bet on a draw.
+     *
+     * @return The mean result per round.
+     */
+    public double getDrawBetEv() {
+        return mean(BetBook.DRAW);
+    }
+
+    /**
+     * Returns the half width of the 95% confidence interval of the player bet EV.
+     * Rounds are treated as independent, which slightly understates the width for rounds from the same shoe.
+     *
+     * @return The margin to add and subtract from {@link #getPlayerBetEv()}.
+     */
+    public double getPlayerBetEvMargin() {
+        return margin(BetBook.PLAYER);
+    }
+
+    /**
+     * Returns the half width of the 95% confidence interval of the banker bet EV.
+     *
+     * @return The margin to add and subtract from {@link #getBankerBetEv()}.
+     */
+    public double getBankerBetEvMargin() {
+        return margin(BetBook.BANKER);
+    }
+
+    /**
+     * Returns the half width of the 95% confidence interval of the draw bet EV.
+     *
+     * @return The margin to add and subtract from {@link #getDrawBetEv()}.
+     */
+    public double getDrawBetEvMargin() {
+        return margin(BetBook.DRAW);
+    }
+
+    /**
+     * Returns the observed house edge of a side bet: the mean loss per unit bet.
+     *
+     * @param bet The side bet.
+     * @return The house edge, positive when the house wins.
+     */
+    public double getSideBetEdge(SideBet bet) {
+        return -(double) sideBetNet[bet.ordinal()] / rounds;
+    }
+
+    /**
+     * Returns the half width of the 95% confidence interval of a side bet's house edge.
+     *
+     * @param bet The side bet.
+     * @return The margin to add and subtract from {@link #getSideBetEdge(SideBet)}.
+     */
+    public double getSideBetEdgeMargin(SideBet bet) {
+        double mean = (double) sideBetNet[bet.ordinal()] / rounds;
+        double meanSquare = (double) sideBetNetSquares[bet.ordinal()] / rounds;
+        return Z_95 * Math.sqrt((meanSquare - mean * mean) / rounds);
+    }
+
+    // Mean result of a one unit main bet, settled at the rules' payouts
+    private double mean(int type) {
+        double net = 0;
+        for (int key = 0; key < RuleSet.SETTLEMENT_KEYS; key++) {
+            net += settlements[key] * rules.netUnits(type, key);
+        }
+        return net / rounds;
+    }
+
+    // Confidence margin of a main bet's mean result
+    private double margin(int type) {
+        double mean = mean(type);
+        double meanSquare = 0;
+        for (int key = 0; key < RuleSet.SETTLEMENT_KEYS; key++) {
+            double net = rules.netUnits(type, key);
+            meanSquare += settlements[key] * net * net;
+        }
+        meanSquare /= rounds;
+        return Z_95 * Math.sqrt((meanSquare - mean * mean) / rounds);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sideBets = new StringBuilder();
+        for (int i = 0; i < SIDE_BETS.length; i++) {
+            sideBets.append(String.format("%nEdge %s %.6f +/- %.6f", SIDE_BETS[i].getDisplayName(),
+                    getSideBetEdge(SIDE_BETS[i]), getSideBetEdgeMargin(SIDE_BETS[i])));
+        }
+        return String.format("%d shoes, %d rounds: Player %.6f, Banker %.6f, Draw %.6f, Naturals %.6f%n"
+                        + "EV Player %.6f +/- %.6f, Banker %.6f +/- %.6f, Draw %.6f +/- %.6f",
+                shoes, rounds, (double) getPlayerWins() / rounds, (double) getBankerWins() / rounds, (double) getDraws() / rounds,
+                (double) naturals / rounds, getPlayerBetEv(), getPlayerBetEvMargin(), getBankerBetEv(),
+                getBankerBetEvMargin(), getDrawBetEv(), getDrawBetEvMargin()) + sideBets;
+    }
+}
@@ -0,0 +1,95 @@
+package baccarat;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load generator for TableManager: opens more and more tables, bets on every one each round, and reports the
+ * latency from placing a bet to its settlement. It stops at the first table count whose p99 misses the target.
+ * Bets still unsettled when a step ends count as misses in the slowest latency bucket, and each step reports how
+ * many there were, so a saturated step cannot look fast by leaving its slowest bets out.
+ *
+ * Arguments (all optional): round interval in ms (default 100), target p99 in ms (default 150),
+ * seconds per step (default 5), threads (default: available processors).
+ * Run with -Dbaccarat.metrics=true -Dbaccarat.metrics.port=9404 to watch the tables through JMX and at
+ * http://localhost:9404/metrics while it runs.
+ */
+public class TableLoadGenerator {
+    private static final int BUCKET_MICROS = 100; // Latency histogram resolution
+    private static final int BUCKETS = 100_000; // Up to 10 seconds; the last bucket also holds unsettled bets
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        long roundMillis = args.length > 0 ? Long.parseLong(args[0]) : 100;
+        long targetP99Millis = args.length > 1 ? Long.parseLong(args[1]) : 150;
+        long stepSeconds = args.length > 2 ? Long.parseLong(args[2]) : 5;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        MetricsServer server = MetricsServer.startIfConfigured(); // Null unless asked for
+        try {
+            System.out.printf("%8s %14s %14s %10s %12s%n", "Tables", "rounds/s", "bets/s", "p99 ms", "unsettled");
+            for (int tables = 100; ; tables *= 2) {
+                double p99 = runStep(tables, roundMillis, stepSeconds, threads);
+                if (p99 > targetP99Millis) {
+                    System.out.printf("p99 target of %d ms missed at %d tables%n", targetP99Millis, tables);
+                    return;
+                }
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    // Runs one table count for the step duration and returns its p99 latency in milliseconds
+    private static double runStep(int tableCount, long roundMillis, long stepSeconds, int threads) throws InterruptedException {
+        AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        AtomicLong settled = new AtomicLong();
+        long placedBets = 0;
+        try (TableManager manager = new TableManager(threads, roundMillis, 6)) {
+            int[] tables = new int[tableCount];
+            long[] sessions = new long[tableCount];
+            for (int i = 0; i < tableCount; i++) {
+                tables[i] = manager.openTable();
+                sessions[i] = manager.openSession(Long.MAX_VALUE / 2);
+            }
+
+            long start = System.nanoTime();
+            long end = start + stepSeconds * 1_000_000_000L;
+            while (System.nanoTime() < end) {
+                for (int i = 0; i < tableCount; i++) {
+                    long placed = System.nanoTime();
+                    manager.placeBet(sessions[i], tables[i], i % 2 == 0 ? BetType.PLAYER : BetType.BANKER, 1_000).thenRun(() -> {
+                        long micros = (System.nanoTime() - placed) / 1000;
+                        histogram.incrementAndGet((int) Math.min(BUCKETS - 1, micros / BUCKET_MICROS));
+                        settled.incrementAndGet();
+                    });
+                    placedBets++;
+                }
+                Thread.sleep(roundMillis); // About one bet per table per round
+            }
+            // The last bets have had a round interval to settle; the rest would be refunded by the close and lost
+            long settledBets = settled.get();
+            long unsettled = placedBets - settledBets;
+            histogram.addAndGet(BUCKETS - 1, unsettled);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double p99 = percentile(histogram, placedBets, 0.99);
+            System.out.printf("%8d %14.0f %14.0f %10.1f %12d%n", tableCount, manager.getRoundsPlayed() / seconds,
+                    settledBets / seconds, p99, unsettled);
+            return p99;
+        }
+    }
+
+    private static double percentile(AtomicLongArray histogram, long count, double fraction) {
+        long rank = (long) Math.ceil(count * fraction);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram.get(i);
+            if (seen >= rank) {
+                return (i + 1) * BUCKET_MICROS / 1000.0;
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+}
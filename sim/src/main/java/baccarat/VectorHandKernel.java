@@ -0,0 +1,112 @@
+package baccarat;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The loop of {@link BatchHandEvaluator} on the incubating Vector API, resolving one deal per byte lane.
+ *
+ * Every step of the scalar loop maps onto a lane-wise operation: points, totals and the draw and winner decisions
+ * become compares, masked subtracts and blends, and the two drawing tables become in-register lookups. The
+ * player's table is indexed by two card total; the banker's is held as one byte per third card column, with a bit
+ * per banker total, since the 110 entries of the full table do not fit in a vector. Totals of 8 and 9 have no bit,
+ * but a side dealt one of them has a natural and never draws.
+ * Only loaded when the jdk.incubator.vector module is, so the evaluator runs without it.
+ */
+final class VectorHandKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int TABLE_LANES = 16; // Indexes the tables take: player totals 0-9, banker columns 0-10
+
+    private final ByteVector playerDraws; // 1 where the player draws, by two card total
+    private final ByteVector bankerDraws; // Bit t set where the banker draws on total t, by third card column
+
+    /**
+     * Constructs a kernel for the drawing tables of an evaluator.
+     *
+     * @param playerDraws 1 where the player draws, by two card total.
+     * @param bankerDraws 1 where the banker draws, by total and third card column as total * 11 + column.
+     */
+    VectorHandKernel(byte[] playerDraws, byte[] bankerDraws) {
+        byte[] player = new byte[SPECIES.length()];
+        System.arraycopy(playerDraws, 0, player, 0, playerDraws.length);
+        byte[] banker = new byte[SPECIES.length()];
+        for (int column = 0; column < 11; column++) {
+            for (int total = 0; total < 8; total++) {
+                banker[column] |= (byte) (bankerDraws[total * 11 + column] << total);
+            }
+        }
+        this.playerDraws = ByteVector.fromArray(SPECIES, player, 0);
+        this.bankerDraws = ByteVector.fromArray(SPECIES, banker, 0);
+    }
+
+    /**
+     * Returns whether the vectors of this CPU are wide enough to hold the drawing tables.
+     *
+     * @return True if the kernel can be used.
+     */
+    static boolean isSupported() {
+        return SPECIES.length() >= TABLE_LANES;
+    }
+
+    /**
+     * Resolves as many of the first deals of a batch as fill whole vectors.
+     *
+     * @param ranks The ranks of the deals, by position in dealing order.
+     * @param playerTotals The player's final totals, filled in.
+     * @param bankerTotals The banker's final totals, filled in.
+     * @param naturals 1 where either side was dealt 8 or 9, filled in.
+     * @param playerDrew 1 where the player drew, filled in.
+     * @param bankerDrew 1 where the banker drew, filled in.
+     * @param winners The BetBook codes of the winners, filled in.
+     * @param count The number of deals to resolve.
+     * @return The number of deals resolved; the caller resolves the rest.
+     */
+    int evaluate(byte[][] ranks, byte[] playerTotals, byte[] bankerTotals, byte[] naturals, byte[] playerDrew,
+                 byte[] bankerDrew, byte[] winners, int count) {
+        ByteVector zero = ByteVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(count);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            ByteVector player = mod10(point(ByteVector.fromArray(SPECIES, ranks[0], i))
+                    .add(point(ByteVector.fromArray(SPECIES, ranks[1], i))));
+            ByteVector banker = mod10(point(ByteVector.fromArray(SPECIES, ranks[2], i))
+                    .add(point(ByteVector.fromArray(SPECIES, ranks[3], i))));
+            VectorMask<Byte> natural = player.compare(VectorOperators.GE, (byte) 8)
+                    .or(banker.compare(VectorOperators.GE, (byte) 8));
+            VectorMask<Byte> stands = natural.not();
+
+            ByteVector next = point(ByteVector.fromArray(SPECIES, ranks[4], i));
+            ByteVector after = point(ByteVector.fromArray(SPECIES, ranks[5], i));
+            VectorMask<Byte> playerDraws = player.selectFrom(this.playerDraws).compare(VectorOperators.NE, (byte) 0).and(stands);
+            ByteVector playerThird = zero.blend(next, playerDraws);
+            ByteVector column = zero.blend(next.add((byte) 1), playerDraws); // 0 when the player stood
+            VectorMask<Byte> bankerDraws = column.selectFrom(this.bankerDraws).lanewise(VectorOperators.LSHR, banker)
+                    .and((byte) 1).compare(VectorOperators.NE, (byte) 0).and(stands);
+            ByteVector bankerThird = next.blend(after, playerDraws); // The card after the player's, if the player drew
+            player = mod10(player.add(playerThird));
+            banker = mod10(banker.add(zero.blend(bankerThird, bankerDraws)));
+
+            player.intoArray(playerTotals, i);
+            banker.intoArray(bankerTotals, i);
+            zero.blend((byte) 1, natural).intoArray(naturals, i);
+            zero.blend((byte) 1, playerDraws).intoArray(playerDrew, i);
+            zero.blend((byte) 1, bankerDraws).intoArray(bankerDrew, i);
+            zero.add((byte) BetBook.DRAW)
+                    .blend((byte) BetBook.PLAYER, player.compare(VectorOperators.GT, banker))
+                    .blend((byte) BetBook.BANKER, banker.compare(VectorOperators.GT, player))
+                    .intoArray(winners, i);
+        }
+        return bound;
+    }
+
+    // Point values of ranks: the rank itself below 10, 0 for 10s and face cards
+    private static ByteVector point(ByteVector ranks) {
+        return ranks.blend((byte) 0, ranks.compare(VectorOperators.GE, (byte) 10));
+    }
+
+    // Rightmost digits of sums of two totals, which are at most 18
+    private static ByteVector mod10(ByteVector sums) {
+        return sums.sub((byte) 10, sums.compare(VectorOperators.GE, (byte) 10));
+    }
+}
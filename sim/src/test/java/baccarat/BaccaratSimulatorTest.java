@@ -0,0 +1,43 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class BaccaratSimulatorTest {
+    final BaccaratSimulator simulator = new BaccaratSimulator(6);
+
+    /**
+     * Tests that a run depends only on its seed: the same seed on 1 and 4 threads gives identical counts.
+     */
+    @Test
+    void testReproducibleAcrossThreadCounts() {
+        SimulationStats single = simulator.run(500, 7, 1);
+        SimulationStats multi = simulator.run(500, 7, 4);
+        assertEquals(single.getRounds(), multi.getRounds(), "Same seed should play the same rounds");
+        assertEquals(single.getPlayerWins(), multi.getPlayerWins(), "Same seed should give the same player wins");
+        assertEquals(single.getBankerWins(), multi.getBankerWins(), "Same seed should give the same banker wins");
+        assertEquals(single.getNaturals(), multi.getNaturals(), "Same seed should give the same naturals");
+        assertEquals(500, multi.getShoes(), "Every shoe should be played");
+    }
+
+    /**
+     * Tests that the simulated banker win rate agrees with the exact calculation within the confidence interval.
+     */
+    @Test
+    void testAgreesWithExactOdds() {
+        SimulationStats stats = simulator.run(2000, 11, 4);
+        BaccaratOdds exact = BaccaratOddsCalculator.forDecks(6);
+        assertEquals(exact.getBankerBetEv(), stats.getBankerBetEv(), 2 * stats.getBankerBetEvMargin(), "Banker EV should match the exact value");
+        assertEquals(exact.getPlayerBetEv(), stats.getPlayerBetEv(), 2 * stats.getPlayerBetEvMargin(), "Player EV should match the exact value");
+    }
+
+    /**
+     * Tests that the simulated Player Pair edge agrees with its exact value: a pair has probability 23/311 in 6 decks.
+     */
+    @Test
+    void testSideBetEdge() {
+        SimulationStats stats = simulator.run(2000, 13, 4);
+        double exact = 1 - 12 * 23.0 / 311;
+        assertEquals(exact, stats.getSideBetEdge(SideBet.PLAYER_PAIR), 2 * stats.getSideBetEdgeMargin(SideBet.PLAYER_PAIR), "Player Pair edge should match the exact value");
+    }
+}
@@ -0,0 +1,128 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class BatchHandEvaluatorTest {
+
+    /**
+     * Tests every combination of six ranks against BaccaratGameLogic: totals, naturals, both draw decisions and the
+     * winner must all be exactly the same.
+     */
+    @Test
+    void testEveryDealMatchesGameLogic() {
+        BaccaratGameLogic logic = new BaccaratGameLogic();
+        BatchHandEvaluator evaluator = new BatchHandEvaluator();
+        int count = 13 * 13 * 13 * 13;
+        BatchHandEvaluator.Batch batch = new BatchHandEvaluator.Batch(count);
+        for (int i = 0; i < count; i++) {
+            batch.getRanks(0)[i] = (byte) (i % 13 + 1);
+            batch.getRanks(1)[i] = (byte) (i / 13 % 13 + 1);
+            batch.getRanks(2)[i] = (byte) (i / 169 % 13 + 1);
+            batch.getRanks(3)[i] = (byte) (i / 2197 + 1);
+        }
+
+        Hand player = new Hand();
+        Hand banker = new Hand();
+        for (int next = 1; next <= 13; next++) {
+            for (int after = 1; after <= 13; after++) {
+                Arrays.fill(batch.getRanks(4), (byte) next);
+                Arrays.fill(batch.getRanks(5), (byte) after);
+                evaluator.evaluate(batch, count);
+                for (int i = 0; i < count; i++) {
+                    player.clear();
+                    banker.clear();
+                    player.add(Card.code(Suit.HEARTS, batch.getRanks(0)[i]));
+                    player.add(Card.code(Suit.HEARTS, batch.getRanks(1)[i]));
+                    banker.add(Card.code(Suit.SPADES, batch.getRanks(2)[i]));
+                    banker.add(Card.code(Suit.SPADES, batch.getRanks(3)[i]));
+                    boolean natural = logic.checkNaturalWin(player, banker);
+                    boolean playerDrew = !natural && logic.evaluatePlayerDraw(player);
+                    int playerThird = playerDrew ? Card.code(Suit.CLUBS, next) : -1;
+                    if (playerDrew) {
+                        player.add(playerThird);
+                    }
+                    boolean bankerDrew = !natural && logic.evaluateBankerDraw(banker, playerThird);
+                    if (bankerDrew) {
+                        banker.add(Card.code(Suit.DIAMONDS, playerDrew ? after : next));
+                    }
+
+                    String deal = "Deal " + i + " then " + next + ", " + after;
+                    assertEquals(player.total(), batch.getPlayerTotals()[i], deal + " player total");
+                    assertEquals(banker.total(), batch.getBankerTotals()[i], deal + " banker total");
+                    assertEquals(natural ? 1 : 0, batch.getNaturals()[i], deal + " natural");
+                    assertEquals(playerDrew ? 1 : 0, batch.getPlayerDrew()[i], deal + " player draw");
+                    assertEquals(bankerDrew ? 1 : 0, batch.getBankerDrew()[i], deal + " banker draw");
+                    assertEquals(logic.whoWon(player, banker).getCode(), batch.getWinners()[i], deal + " winner");
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the totals agree with the list based hand totals of BaccaratGameLogic, rank by rank.
+     */
+    @Test
+    void testTotalsMatchListHands() {
+        BaccaratGameLogic logic = new BaccaratGameLogic();
+        BatchHandEvaluator.Batch batch = new BatchHandEvaluator.Batch(169);
+        for (int i = 0; i < 169; i++) {
+            batch.getRanks(0)[i] = (byte) (i % 13 + 1);
+            batch.getRanks(1)[i] = (byte) (i / 13 + 1);
+            batch.getRanks(2)[i] = 10; // Banker on 0, so naturals come from the player alone
+            batch.getRanks(3)[i] = 10;
+        }
+        new BatchHandEvaluator().evaluate(batch, 169);
+        for (int i = 0; i < 169; i++) {
+            ArrayList<Card> hand = new ArrayList<>();
+            hand.add(new Card("Hearts", batch.getRanks(0)[i]));
+            hand.add(new Card("Hearts", batch.getRanks(1)[i]));
+            int total = logic.handTotal(hand);
+            assertEquals(logic.checkNaturalWin(hand, new ArrayList<>()) ? 1 : 0, batch.getNaturals()[i], "Natural " + i);
+            if (batch.getPlayerDrew()[i] == 0) {
+                assertEquals(total, batch.getPlayerTotals()[i], "Two card total " + i);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BatchHandEvaluator().evaluate(batch, 170), "Past the capacity");
+    }
+
+    /**
+     * Tests that the Vector API kernel and the scalar loop resolve the same random deals identically under every
+     * preset, for batch sizes that do and do not fill whole vectors.
+     */
+    @Test
+    void testVectorMatchesScalar() {
+        assumeTrue(BatchHandEvaluator.VECTORIZED, "Needs --add-modules jdk.incubator.vector");
+        SplittableRandom random = new SplittableRandom(25);
+        for (RuleSet rules : new RuleSet[] {RuleSet.STANDARD, RuleSet.MACAU, RuleSet.NO_COMMISSION, RuleSet.EZ}) {
+            BatchHandEvaluator evaluator = new BatchHandEvaluator(rules);
+            for (int count : new int[] {0, 1, 15, 16, 63, 64, 65, 10_007}) {
+                BatchHandEvaluator.Batch batch = new BatchHandEvaluator.Batch(count);
+                for (int position = 0; position < BatchHandEvaluator.DEAL_CARDS; position++) {
+                    for (int i = 0; i < count; i++) {
+                        batch.getRanks(position)[i] = (byte) random.nextInt(1, 14);
+                    }
+                }
+                evaluator.evaluate(batch, count);
+                byte[][] vector = results(batch);
+                evaluator.evaluateScalar(batch, 0, count);
+                byte[][] scalar = results(batch);
+                String[] names = {"player totals", "banker totals", "naturals", "player draws", "banker draws", "winners"};
+                for (int result = 0; result < names.length; result++) {
+                    assertArrayEquals(scalar[result], vector[result], rules.getName() + ", " + count + " deals, " + names[result]);
+                }
+            }
+        }
+    }
+
+    // Copies every result array of a batch
+    private static byte[][] results(BatchHandEvaluator.Batch batch) {
+        return new byte[][] {batch.getPlayerTotals().clone(), batch.getBankerTotals().clone(), batch.getNaturals().clone(),
+                batch.getPlayerDrew().clone(), batch.getBankerDrew().clone(), batch.getWinners().clone()};
+    }
+}
@@ -0,0 +1,61 @@
+package baccarat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+class ShoePlayerTest {
+
+    /**
+     * Tests that a shoe played from a seed has exactly the rounds the engine plays from the dealer with that seed,
+     * for every preset.
+     */
+    @Test
+    void testMatchesEngine() {
+        for (RuleSet rules : new RuleSet[] {RuleSet.STANDARD, RuleSet.MACAU, RuleSet.NO_COMMISSION, RuleSet.EZ}) {
+            ShoePlayer player = new ShoePlayer(rules);
+            ShoePlayer.Result result = new ShoePlayer.Result();
+            for (long seed = 1; seed <= 20; seed++) {
+                BaccaratDealer dealer = BaccaratDealer.forSimulation(rules.getNumDecks(), seed);
+                BaccaratEngine engine = new BaccaratEngine(dealer, rules);
+                int rounds = player.play(seed, result);
+                int dealt = result.getBurnt();
+                for (int i = 0; i < rounds; i++) {
+                    engine.playHands();
+                    String round = rules.getName() + " seed " + seed + " round " + i;
+                    assertEquals(1, dealer.getShoeNumber(), round + " is from the first shoe");
+                    assertEquals(engine.getPlayerHand().total(), result.getPlayerTotals()[i], round + " player total");
+                    assertEquals(engine.getBankerHand().total(), result.getBankerTotals()[i], round + " banker total");
+                    assertEquals(RoundOutcome.winner(engine.getOutcome()), result.getWinners()[i], round + " winner");
+                    dealt += result.getCardsUsed()[i];
+                    assertEquals(dealt, rules.getNumDecks() * Card.CODES - dealer.getDeckSize(), round + " cards dealt");
+                }
+                assertTrue(rules.isShoeFinished(dealer.getDeckSize()), "Cut card came out after the last round");
+                assertEquals(dealer.getDeckSize(), result.getRemaining(), "Cards left behind the cut card");
+            }
+        }
+    }
+
+    /**
+     * Tests that a recorded shoe plays the same as the seed it was shuffled from, and that the wrong size is refused.
+     */
+    @Test
+    void testRecordedShoe() {
+        Shoe shoe = new Shoe(6);
+        shoe.shuffle(new SplitMix64Random(99));
+        byte[] cards = new byte[shoe.size()];
+        shoe.writeTo(ByteBuffer.wrap(cards));
+
+        ShoePlayer player = new ShoePlayer(RuleSet.STANDARD);
+        ShoePlayer.Result recorded = new ShoePlayer.Result();
+        ShoePlayer.Result seeded = new ShoePlayer.Result();
+        int rounds = player.play(cards, recorded);
+        assertEquals(rounds, player.play(99, seeded), "Same number of rounds");
+        for (int i = 0; i < rounds; i++) {
+            assertEquals(seeded.getWinners()[i], recorded.getWinners()[i], "Winner of round " + i);
+            assertEquals(seeded.getCardsUsed()[i], recorded.getCardsUsed()[i], "Cards of round " + i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> player.play(new byte[Card.CODES], recorded), "One deck for a six deck game");
+    }
+}
@@ -0,0 +1,381 @@
+/**
+ * Baccarat Game
+ *
+ * This JavaFX application simulates a Baccarat card game, allowing the user to place bets
+ * on either the player's hand, the banker's hand, or a draw. The game follows traditional
+ * Baccarat rules, including card dealing, natural win checks, and calculating winnings
+ * with banker commission. The application features a user-friendly interface for interactive
+ * gameplay.
+ *
+ * Features:
+ * - Start a new game or round
+ * - Place bets on player, banker, or draw
+ * - Animated gameplay with results display
+ * - Option to restart the game or exit
+ *
+ * Author: Dishant Desle
+ * Author: Jash Patel
+ * Date: 10/29/2023
+ *
+ * Note: This project is part of CS342/Baccarat Game
+ */
+
+
+
+
+
+
+
+
+
+package baccarat;
+
+// Import statements for JavaFX components, animations, and standard Java utilities
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import javafx.animation.PauseTransition;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+// Main class extending from JavaFX's Application class for GUI applications
+ public class BaccaratGame extends Application {
+	// Game-related attributes
+	private BaccaratEngine engine; // Headless engine that deals and resolves each round
+	private RoundEventPublisher events; // Events of each round the engine resolves, which the display reveals
+	private long currentBet; // Current bet amount placed by the player, in cents
+	private Ledger ledger = new Ledger(64); // Bets and settlements of this session; its balance is the total winnings
+	private long roundNumber; // Number of the round being played, recorded in the ledger
+	private final Scoreboard scoreboard = new Scoreboard(128); // Counts and roads of the current shoe
+	private long scoreboardShoe; // Shoe the scoreboard is recording
+	private final ArrayDeque<RoundEvent> revealQueue = new ArrayDeque<>(); // Events received but not shown yet
+	private final TreeMap<Long, PendingReveal> pendingReveals = new TreeMap<>(); // Rounds not shown yet, by roundKey
+	private PauseTransition revealPause; // Pacing between the steps of a round being revealed
+	private boolean revealing; // Whether a step is being shown, so the next waits for the pause
+	private final TableMetrics metrics = Metrics.ENABLED ? Metrics.forTable(Metrics.LOCAL_TABLE) : null; // Null when metrics are off
+
+	// JavaFX UI components for displaying game state and accepting user input
+	private Label playerCardsLabel;
+	private Label bankerCardsLabel;
+	private Label resultLabel; // Displays results of each round
+	private Label winningsLabel; // Displays total winnings
+	private Label scoreboardLabel; // Displays the counts, streak and recent results of the shoe
+	private TextField betAmount; // Input for the bet amount
+	private ToggleGroup betChoices; // Group for bet type selection (Player, Banker, Draw)
+
+	// Constants for the game configuration
+	private static final String[] BET_LABELS = {"Player", "Banker", "Draw"}; // Labels of the bets and outcomes, by code
+	private static final int EVENT_BUFFER = 256; // Round events waiting for the display before any are dropped
+	private static final String RULES_FILE = "baccarat.properties"; // Optional table rules, see RuleSet
+	private RuleSet rules; // Rules the game is played by, the standard ones unless the rules file says otherwise
+
+	// Entry point of the JavaFX application
+	public static void main(String[] args) {
+		launch(args);
+	}
+
+	// Start method to set up the primary stage (main window) of the application
+	@Override
+	public void start(Stage primaryStage) {
+		primaryStage.setTitle("Baccarat Game"); // Setting the title of the window
+		Scene startScene = startScreen(primaryStage); // Creating the start screen scene
+		primaryStage.setScene(startScene); // Setting the start scene in the stage
+		primaryStage.show(); // Displaying the stage
+	}
+
+	// Method to create the initial start screen
+	private Scene startScreen(Stage primaryStage) {
+		Label welcomeLabel = new Label("Welcome to Baccarat!"); // Welcome label
+		Button startGameBtn = new Button("Start Game"); // Button to start the game
+		// Event handler for button click to change scene to the game scene
+		startGameBtn.setOnAction(e -> primaryStage.setScene(gameScene()));
+
+		// Layout setup using a vertical box layout with specified spacing and padding
+		VBox layout = new VBox(20, welcomeLabel, startGameBtn);
+		layout.setPadding(new Insets(100, 50, 100, 50)); // Padding around the VBox
+		layout.setAlignment(javafx.geometry.Pos.CENTER); // Center alignment of children
+
+		return new Scene(layout, 400, 600); // Returning the constructed scene
+	}
+
+	// Method to create the main game scene
+	private Scene gameScene() {
+		// Initialization of game components and dealer
+		String rulesError = null; // Shown in place of the results until the first round
+		try {
+			rules = loadRules();
+		} catch (IOException | IllegalArgumentException e) {
+			rules = RuleSet.STANDARD;
+			rulesError = "Could not read " + RULES_FILE + ": " + e.getMessage() + "\nPlaying by the standard rules.";
+		}
+		engine = new BaccaratEngine(new BaccaratDealer(rules.getNumDecks(), new Random(),
+				Metrics.timed(FisherYatesShuffle.INSTANCE, Metrics.LOCAL_TABLE)), rules);
+		events = new RoundEventPublisher(EVENT_BUFFER);
+		events.subscribe(event -> Platform.runLater(() -> queueReveal(event))); // Shown on the FX thread, at its own pace
+		revealPause = new PauseTransition(Duration.seconds(2));
+		revealPause.setOnFinished(e -> revealNext());
+
+		// Setup UI components for player and banker card display
+		playerCardsLabel = new Label("Player's Cards: ");
+		HBox playerArea = new HBox(10, playerCardsLabel);
+		playerArea.setPadding(new Insets(10));
+
+		bankerCardsLabel = new Label("Banker's Cards: ");
+		HBox bankerArea = new HBox(10, bankerCardsLabel);
+		bankerArea.setPadding(new Insets(10));
+
+		// Setup for betting interface: input field and radio buttons
+		betAmount = new TextField();
+		betAmount.setPromptText("Enter bet amount");
+		betChoices = new ToggleGroup();
+		RadioButton betPlayer = new RadioButton(BET_LABELS[BetBook.PLAYER]);
+		betPlayer.setToggleGroup(betChoices);
+		betPlayer.setUserData(BetType.PLAYER); // The bet each button places, so the label is only for display
+		RadioButton betBanker = new RadioButton(BET_LABELS[BetBook.BANKER]);
+		betBanker.setToggleGroup(betChoices);
+		betBanker.setUserData(BetType.BANKER);
+		RadioButton betDraw = new RadioButton(BET_LABELS[BetBook.DRAW]);
+		betDraw.setToggleGroup(betChoices);
+		betDraw.setUserData(BetType.DRAW);
+		VBox bettingArea = new VBox(10, betAmount, betPlayer, betBanker, betDraw);
+		bettingArea.setPadding(new Insets(10));
+
+		// Button to start a round and its event handler
+		Button startRoundBtn = new Button("Start Round");
+		startRoundBtn.setOnAction(e -> startRound());
+		HBox controlArea = new HBox(10, startRoundBtn);
+		controlArea.setPadding(new Insets(10));
+
+		// Labels for displaying game results and total winnings
+		resultLabel = new Label(rulesError == null ? "Results will be shown here." : rulesError);
+		winningsLabel = new Label("Total Winnings: $0.00");
+		scoreboardLabel = new Label("No rounds played in this shoe.");
+		VBox resultArea = new VBox(10, resultLabel, winningsLabel, scoreboardLabel);
+		resultArea.setPadding(new Insets(10));
+
+		// Menu setup for additional options like exit and fresh start
+		Menu optionsMenu = new Menu("Options");
+		MenuItem exitItem = new MenuItem("Exit");
+		exitItem.setOnAction(e -> System.exit(0));
+		MenuItem freshStartItem = new MenuItem("Fresh Start");
+		freshStartItem.setOnAction(e -> freshStart());
+		optionsMenu.getItems().addAll(exitItem, freshStartItem);
+		MenuBar menuBar = new MenuBar(optionsMenu);
+
+		// Main layout comprising all the above elements
+		VBox mainLayout = new VBox(menuBar, playerArea, bankerArea, bettingArea, controlArea, resultArea);
+		mainLayout.setPadding(new Insets(20));
+
+		return new Scene(mainLayout, 400, 600); // Scene with the main game layout
+	}
+
+	// Method to handle the start of a new game round
+	private void startRound() {
+		// Check if bet amount is entered and a bet option is selected
+		RadioButton selectedRadioButton = (RadioButton) betChoices.getSelectedToggle();
+		if (selectedRadioButton == null || betAmount.getText().isEmpty()) {
+			resultLabel.setText("Please enter bet amount and choose a bet option.");
+			return;
+		}
+
+		// Parsing the bet amount and handling incorrect format
+		try {
+			currentBet = Money.parse(betAmount.getText());
+		} catch (NumberFormatException e) {
+			currentBet = 0;
+		}
+		if (currentBet <= 0) {
+			resultLabel.setText("Please enter a valid bet amount.");
+			return;
+		}
+
+		// Get the selected bet choice (Player, Banker, or Draw)
+		BetType betChoice = (BetType) selectedRadioButton.getUserData();
+
+		// The engine resolves and settles the whole round at once; the display reveals its events at its own pace
+		long start = Metrics.ENABLED ? System.nanoTime() : 0;
+		RoundResult round = engine.playRound();
+		long settleStart = Metrics.ENABLED ? System.nanoTime() : 0;
+		roundNumber++;
+		long payout = rules.payoutCents(betChoice.getCode(), round.getOutcome(), currentBet); // Commission already deducted for banker bet
+		ledger.post(Ledger.BET, 0, roundNumber, -currentBet); // Take the stake for this round
+		ledger.post(Ledger.SETTLEMENT, 0, roundNumber, currentBet + payout); // Stake back plus winnings, or nothing for a loss
+		if (Metrics.ENABLED) {
+			metrics.recordRound(settleStart - start);
+			metrics.recordSettlement(1, System.nanoTime() - settleStart);
+		}
+
+		// The scoreboard and ledger are kept from the engine's result, so an event dropped on the way to the display
+		// only skips a step of the animation; the display shows what they held after the round once it is revealed
+		BaccaratDealer dealer = engine.getDealer();
+		recordOnScoreboard(dealer.getShoeNumber(), round);
+		pendingReveals.put(roundKey(dealer.getShoeNumber(), dealer.getRoundNumber()),
+				new PendingReveal(betChoice, ledger.getBalance(), scoreboard.snapshot()));
+		events.publishRound(Metrics.LOCAL_TABLE, dealer.getShoeNumber(), dealer.getRoundNumber(), round);
+		events.publishSettlement(Metrics.LOCAL_TABLE, dealer.getShoeNumber(), dealer.getRoundNumber(), round, 1, currentBet, payout);
+	}
+
+	// Method to take a round event on the FX thread, showing it straight away unless a step is still on screen
+	private void queueReveal(RoundEvent event) {
+		revealQueue.add(event);
+		if (!revealing) {
+			revealNext();
+		}
+	}
+
+	// Method to show the next round event, pausing after each card shown so the round unfolds step by step
+	private void revealNext() {
+		RoundEvent event = revealQueue.poll();
+		revealing = event != null;
+		if (event == null) {
+			return;
+		}
+		RoundResult round = event.getRound();
+		switch (event.getType()) {
+			case CARDS_DEALT:
+			case PLAYER_DRAW:
+			case BANKER_DRAW:
+				updateCardDisplay(round, event.getPlayerCardsShown(), event.getBankerCardsShown());
+				revealPause.playFromStart(); // The next step comes once the pause is over
+				return;
+			case RESULT:
+				PendingReveal result = pendingReveals.get(roundKey(event.getShoeNumber(), event.getRoundNumber()));
+				if (result != null) { // Null for a round still in flight when the game was restarted
+					showScoreboard(result.scoreboard);
+				}
+				break;
+			case SETTLEMENT:
+				long key = roundKey(event.getShoeNumber(), event.getRoundNumber());
+				PendingReveal settled = pendingReveals.remove(key);
+				pendingReveals.headMap(key).clear(); // Earlier rounds whose settlement was dropped are never shown
+				if (settled != null) {
+					showScoreboard(settled.scoreboard); // In case the result was dropped
+					showSettlement(settled.bet, round, event.getPaidCents(), settled.balance);
+				}
+				break;
+		}
+		revealNext(); // Nothing new to look at, so go straight on
+	}
+
+	// Method to update the display of player and banker cards, showing only the cards revealed so far
+	private void updateCardDisplay(RoundResult round, int playerCards, int bankerCards) {
+		playerCardsLabel.setText("Player's Cards: " + cardsToString(round.getPlayerHand().subList(0, playerCards)));
+		bankerCardsLabel.setText("Banker's Cards: " + cardsToString(round.getBankerHand().subList(0, bankerCards)));
+	}
+
+	// Method to show the outcome of a bet once its round has been revealed, updating winnings and result display
+	private void showSettlement(BetType betChoice, RoundResult round, long payout, long balance) {
+		boolean isWinner = betChoice.winsOn(round.getWinner());
+		String winner = BET_LABELS[round.getWinner().getCode()];
+
+		// Updating UI based on the outcome of the round
+		if (isWinner && payout == 0) {
+			// Winning bets the rules push, such as a banker win on a three card 7 at an EZ table
+			resultLabel.setText(String.format("Player Total: %d Banker Total: %d\n%s wins\nThis win pushes! You get your bet back!",
+					round.getPlayerTotal(), round.getBankerTotal(), winner));
+		} else if (isWinner) {
+			// Displaying result of the round with winning amount
+			resultLabel.setText(String.format("Player Total: %d Banker Total: %d\n%s wins\nCongrats! You bet %s! You win $%s!",
+					round.getPlayerTotal(), round.getBankerTotal(), winner, BET_LABELS[betChoice.getCode()], Money.format(payout)));
+		} else if (round.getWinner() == Outcome.DRAW) {
+			// Special handling for draw result when not bet on draw
+			resultLabel.setText(String.format("Player Total: %d Banker Total: %d\nIt's a Draw! You get your bet back!",
+					round.getPlayerTotal(), round.getBankerTotal()));
+		} else {
+			// Displaying result of the round for loss
+			resultLabel.setText(String.format("Player Total: %d Banker Total: %d\n%s wins\nSorry, you bet %s! You lost your bet!",
+					round.getPlayerTotal(), round.getBankerTotal(), winner, BET_LABELS[betChoice.getCode()]));
+		}
+		winningsLabel.setText("Total Winnings: $" + Money.format(balance)); // The ledger's balance as of this round
+	}
+
+	// Method to read the table rules from the rules file in the working directory, or the standard rules without one
+	private static RuleSet loadRules() throws IOException {
+		Path path = Paths.get(RULES_FILE);
+		return Files.exists(path) ? RuleSet.load(path) : RuleSet.STANDARD;
+	}
+
+	// Method to record a round played on the scoreboard, starting again with each new shoe
+	private void recordOnScoreboard(long shoe, RoundResult round) {
+		if (shoe != scoreboardShoe) {
+			scoreboard.clear();
+			if (Metrics.ENABLED && scoreboardShoe != 0) {
+				metrics.recordShoeChange();
+			}
+			scoreboardShoe = shoe;
+		}
+		scoreboard.record(round);
+	}
+
+	// Method to show the scoreboard as it stood after a round, once that round has been revealed
+	private void showScoreboard(Scoreboard.Snapshot snapshot) {
+		StringBuilder beads = new StringBuilder();
+		byte[] beadPlate = snapshot.getBeadPlate();
+		for (int i = Math.max(0, beadPlate.length - 12); i < beadPlate.length; i++) {
+			beads.append("PBD".charAt(Scoreboard.Snapshot.winnerOf(beadPlate[i]))); // Last twelve results
+		}
+		String streak = snapshot.getStreakWinner() < 0 ? "none"
+				: BET_LABELS[snapshot.getStreakWinner()] + " x" + snapshot.getStreakLength();
+		scoreboardLabel.setText(String.format("Player %d  Banker %d  Draw %d  Naturals %d\nStreak: %s\nRecent: %s",
+				snapshot.getPlayerWins(), snapshot.getBankerWins(), snapshot.getDraws(), snapshot.getNaturals(), streak, beads));
+	}
+
+	// Method to reset the game to initial state, clearing winnings and resetting UI
+	private void freshStart() {
+		ledger = new Ledger(64); // Start a new session, so total winnings are back to zero
+		revealQueue.clear(); // Rounds of the old session are not shown
+		pendingReveals.clear();
+		revealPause.stop();
+		revealing = false;
+		winningsLabel.setText("Total Winnings: $0.00"); // Reset winnings display
+		resultLabel.setText("Results will be shown here."); // Reset results label
+		playerCardsLabel.setText("Player's Cards: "); // Reset player's cards display
+		bankerCardsLabel.setText("Banker's Cards: "); // Reset banker's cards display
+
+		// Clear the bet amount input field
+		betAmount.clear();
+
+		// Deselect any selected betting option
+		if (betChoices.getSelectedToggle() != null) {
+			betChoices.getSelectedToggle().setSelected(false); // Deselect chosen bet option
+		}
+	}
+
+	// Method to build the key of a round from its shoe and its number in the shoe, ordered as the rounds are played
+	private static long roundKey(long shoe, int round) {
+		return shoe << 32 | round;
+	}
+
+	// What to show once a round has been revealed: the bet placed on it, and the ledger balance and scoreboard after it
+	private static final class PendingReveal {
+		private final BetType bet;
+		private final long balance;
+		private final Scoreboard.Snapshot scoreboard;
+
+		PendingReveal(BetType bet, long balance, Scoreboard.Snapshot scoreboard) {
+			this.bet = bet;
+			this.balance = balance;
+			this.scoreboard = scoreboard;
+		}
+	}
+
+	// Method to convert a list of Card objects into a String for display
+	private String cardsToString(List<Card> hand) {
+		StringBuilder handString = new StringBuilder();
+		for (Card card : hand) {
+			handString.append(card.toString()).append(" "); // Append each card's string representation
+		}
+		return handString.toString().trim(); // Return the concatenated string of cards
+	}
+}